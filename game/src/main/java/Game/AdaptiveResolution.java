@@ -0,0 +1,105 @@
+package Game;
+
+import java.util.Arrays;
+
+public class AdaptiveResolution {
+
+    /**
+     * The largest divisor of the resolution (the render target has at least a quarter of the pixels per axis)
+     */
+    public static final int MAX_DIVISOR = 4;
+    /**
+     * The amount of frames per decision
+     */
+    public static final int WINDOW = 60;
+    /**
+     * The median frame time above which the resolution drops and below which it may rise again (fractions of the
+     * budget)
+     */
+    private static final double DROP = 1.2, RISE = 1.05;
+    /**
+     * The frame time budget (in nanoseconds)
+     */
+    private final long budget;
+    /**
+     * The frame times of the current window (in nanoseconds)
+     */
+    private final long[] frameTimes = new long[WINDOW];
+    /**
+     * The amount of frames in the current window
+     */
+    private int frames;
+    /**
+     * The amount of pixels of the window per pixel of the render target along each axis
+     */
+    private int divisor = 1;
+    /**
+     * The amount of windows in a row within the budget and the amount needed before the resolution rises
+     */
+    private int calm, patience = 4;
+    /**
+     * True if the resolution rose after the last window
+     */
+    private boolean rose;
+
+    /**
+     * Constructor
+     *
+     * @param fps the frame rate to be held
+     */
+    public AdaptiveResolution(double fps) {
+        this.budget = (long) (1e9 / fps);
+    }
+
+    /**
+     * Record a frame and decide on the resolution at the end of a window
+     *
+     * @param frameTime the time since the last frame (in nanoseconds)
+     * @return true if the divisor changed
+     */
+    public boolean update(long frameTime) {
+        frameTimes[frames++] = frameTime;
+        if (frames < WINDOW) return false;
+        frames = 0;
+        Arrays.sort(frameTimes);
+        long median = frameTimes[WINDOW / 2];
+
+        // Drop the resolution if the frames are too slow (and wait longer before trying again after a failed rise)
+        if (median > budget * DROP) {
+            calm = 0;
+            if (rose) patience = Math.min(2 * patience, 64);
+            rose = false;
+            if (divisor == MAX_DIVISOR) return false;
+            divisor++;
+            return true;
+        }
+
+        // Raise the resolution again after enough windows within the budget
+        rose = false;
+        if (median > budget * RISE) {
+            calm = 0;
+            return false;
+        }
+        if (divisor == 1 || ++calm < patience) return false;
+        calm = 0;
+        rose = true;
+        divisor--;
+        return true;
+    }
+
+    /**
+     * @return the amount of pixels of the window per pixel of the render target along each axis
+     */
+    public int getDivisor() {
+        return divisor;
+    }
+
+    /**
+     * Start over at the full resolution (after the window changed)
+     */
+    public void reset() {
+        frames = calm = 0;
+        divisor = 1;
+        rose = false;
+    }
+}
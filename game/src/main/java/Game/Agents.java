@@ -0,0 +1,389 @@
+package Game;
+
+import Game.Models.Blocks;
+import Game.Models.Map;
+
+import java.util.stream.IntStream;
+
+public class Agents {
+
+    /**
+     * The amount of agents that are stepped together on one core
+     */
+    public static final int BATCH = 1024;
+    /**
+     * The flags of an agent
+     */
+    private static final byte DEAD = 1, WON = 2, DYING = 4, JUMPING = 8;
+    /**
+     * A factor that turns any difference from zero into a value beyond one (even the smallest double), so that a
+     * comparison can be computed with min and max
+     */
+    private static final double HUGE = 1e300;
+    /**
+     * The distance an agent keeps to a block it collided with (the same as for the player)
+     */
+    private static final double CONTACT_OFFSET = 1e-6;
+    /**
+     * The distance the box an agent sweeps keeps to the edges of its free space (so that rounding can't move it onto a
+     * tile outside)
+     */
+    private static final double MARGIN = 1e-6;
+    /**
+     * The map the agents are on (shared and not modified)
+     */
+    private final Map map;
+    /**
+     * The amount of agents
+     */
+    public final int count;
+    /**
+     * The positions of the agents
+     */
+    public final double[] x, y;
+    /**
+     * The measurements of the agents
+     */
+    public final double[] radius;
+    /**
+     * The current speeds of the agents
+     */
+    private final double[] vx, vy;
+    /**
+     * The current accelerations of the agents
+     */
+    private final double[] ax;
+    /**
+     * The current rotations of the agents
+     */
+    private final double[] rotation;
+    /**
+     * The flags of the agents
+     */
+    private final byte[] flags;
+    /**
+     * 1 for the agents that moved on the current tick and 0 for the others (a factor of the integration pass)
+     */
+    private final double[] moved;
+    /**
+     * The space around each agent that is known to have no solid tile and to end before the finish (empty if the left
+     * edge is infinite): an agent whose movement stays inside doesn't need to look at the map
+     */
+    private final double[] freeLeft, freeTop, freeRight, freeBottom;
+
+    /**
+     * Constructor
+     *
+     * @param map   the agents are on
+     * @param count the amount of agents
+     */
+    public Agents(Map map, int count) {
+        this.map = map;
+        this.count = count;
+        this.x = new double[count];
+        this.y = new double[count];
+        this.radius = new double[count];
+        this.vx = new double[count];
+        this.vy = new double[count];
+        this.ax = new double[count];
+        this.rotation = new double[count];
+        this.flags = new byte[count];
+        this.moved = new double[count];
+        this.freeLeft = new double[count];
+        this.freeTop = new double[count];
+        this.freeRight = new double[count];
+        this.freeBottom = new double[count];
+        for (int i = 0; i < count; i++) {
+            flags[i] = JUMPING;
+            spawn(i);
+        }
+    }
+
+    /**
+     * Spawn an agent
+     *
+     * @param i the agent
+     */
+    public void spawn(int i) {
+        radius[i] = (double) Map.SIZE / 2;
+        flags[i] &= ~(DEAD | DYING | WON);
+        freeLeft[i] = Double.POSITIVE_INFINITY;
+        x[i] = map.x;
+        y[i] = map.y;
+    }
+
+    /**
+     * Start a normal jump
+     *
+     * @param i the agent
+     */
+    public void jump(int i) {
+        if ((flags[i] & JUMPING) == 0 && !Double.isNaN(map.sweepCircle(x[i], y[i], radius[i], 1, true, null))) {
+            flags[i] |= JUMPING;
+            vy[i] = -Player.JUMP_VELOCITY;
+        }
+    }
+
+    /**
+     * Start the acceleration for an agent
+     *
+     * @param i            the agent
+     * @param acceleration sideways
+     */
+    public void accelerate(int i, double acceleration) {
+        ax[i] = acceleration;
+    }
+
+    /**
+     * @param i the agent
+     * @return true if the agent is dead
+     */
+    public boolean isDead(int i) {
+        return (flags[i] & DEAD) != 0;
+    }
+
+    /**
+     * @param i the agent
+     * @return true if the agent reached the finish
+     */
+    public boolean hasWon(int i) {
+        return (flags[i] & WON) != 0;
+    }
+
+    /**
+     * Move all agents in the current thread
+     *
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    public void step(double deltaTime) {
+        step(0, count, deltaTime);
+    }
+
+    /**
+     * Move all agents in batches on the common fork-join pool
+     *
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    public void stepParallel(double deltaTime) {
+        IntStream.range(0, (count + BATCH - 1) / BATCH).parallel()
+                .forEach(batch -> step(batch * BATCH, Math.min(batch * BATCH + BATCH, count), deltaTime));
+    }
+
+    /**
+     * Move a range of agents (each agent behaves exactly like a player moved by Player.move)
+     *
+     * @param from      the first agent (inclusive)
+     * @param to        the last agent (exclusive)
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    public void step(int from, int to, double deltaTime) {
+        // Move the agents that stay inside their free space
+        moveFree(from, to, deltaTime);
+
+        // Resolve the collisions of the others agent by agent (with a tile position per call, as batches run in parallel)
+        int[] hit = new int[2];
+        for (int i = from; i < to; i++) {
+            if (moved[i] == 0) collide(i, deltaTime, hit);
+        }
+
+        // Integrate the speeds of the agents that moved
+        integrate(from, to, deltaTime);
+    }
+
+    /**
+     * Move the agents of a range that stay inside their free space (the first pass of step, branch-free and vectorized
+     * like integrate): their movement can't collide, so it's the same as in Player.move without looking at the map
+     *
+     * @param from      the first agent (inclusive)
+     * @param to        the last agent (exclusive)
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    public void moveFree(int from, int to, double deltaTime) {
+        // Measure how far the box each agent sweeps reaches beyond its free space sideways
+        for (int i = from; i < to; i++) {
+            double dx = vx[i] * deltaTime, r = radius[i];
+            moved[i] = Math.max(freeLeft[i] - (x[i] - r + Math.min(dx, 0)), x[i] + r + Math.max(dx, 0) - freeRight[i]);
+        }
+
+        // ... and up or down, then turn it into 1 for the agents that stay inside and 0 for the others
+        for (int i = from; i < to; i++) {
+            double dy = vy[i] * deltaTime, r = radius[i];
+            double over = Math.max(freeTop[i] - (y[i] - r + Math.min(dy, 0)), y[i] + r + Math.max(dy, 0) - freeBottom[i]);
+            moved[i] = 1 - Math.min(Math.max(Math.max(moved[i], over) * HUGE * HUGE, 0), 1);
+        }
+
+        // Move the agents that stay inside
+        for (int i = from; i < to; i++) {
+            double moving = moved[i];
+            x[i] += moving * (vx[i] * deltaTime);
+            y[i] += moving * (vy[i] * deltaTime);
+        }
+    }
+
+    /**
+     * Integrate the speeds of a range of agents after their collisions (the last pass of step): the loops are
+     * branch-free and small enough for the JIT to unroll and vectorize them, the agents that didn't move are
+     * multiplied by zero and the conditions of Player.move are computed with min and max
+     *
+     * @param from      the first agent (inclusive)
+     * @param to        the last agent (exclusive)
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    public void integrate(int from, int to, double deltaTime) {
+        // Rotate with the current speed and respect the gravity
+        double gravity = Player.GRAVITY * deltaTime;
+        for (int i = from; i < to; i++) {
+            double moving = moved[i];
+            rotation[i] += moving * (vx[i] / radius[i] * deltaTime);
+            vy[i] += moving * gravity;
+        }
+
+        // Respect the resistance against the speed (to the left at a standstill): the sign is -1 below zero and 1 else
+        double drag = Player.RESISTANCE * deltaTime;
+        for (int i = from; i < to; i++) {
+            double sign = Math.max(Math.min(vx[i] * HUGE * HUGE, 1), -1);
+            sign += 1 - Math.abs(sign);
+            vx[i] += moved[i] * (sign * -drag);
+        }
+
+        // Accelerate only up to the maximum velocity: over is 1 above it and 0 otherwise
+        for (int i = from; i < to; i++) {
+            double over = Math.min(Math.max((Math.abs(vx[i]) - Player.MAX_VELOCITY) * HUGE * HUGE, 0), 1);
+            vx[i] += moved[i] * (1 - over) * (ax[i] * deltaTime);
+        }
+    }
+
+    /**
+     * Move an agent along both axes and resolve its collisions
+     *
+     * @param i         the agent
+     * @param deltaTime the time to simulate (in seconds)
+     * @param hit       receives the position of the tile the agent collided with
+     */
+    private void collide(int i, double deltaTime, int[] hit) {
+        // Check if the agent is still alive
+        if ((flags[i] & DEAD) != 0) {
+            moved[i] = 0;
+            if ((flags[i] & DYING) != 0) animateDeath(i, deltaTime);
+            return;
+        }
+        moved[i] = 1;
+
+        // Move the agent horizontally
+        double dx = vx[i] * deltaTime;
+        double moved = map.sweepCircle(x[i], y[i], radius[i], dx, false, hit);
+        boolean free = Double.isNaN(moved);
+        if (free) {
+            x[i] += dx;
+        } else {
+            int sign = dx > 0 ? 1 : -1;
+            vx[i] = 0;
+            x[i] += moved - sign * CONTACT_OFFSET;
+            hit(i, map.getTile(hit[0], hit[1]), false, -sign);
+        }
+
+        // Move the agent vertically
+        double dy = vy[i] * deltaTime;
+        moved = map.sweepCircle(x[i], y[i], radius[i], dy, true, hit);
+        free &= Double.isNaN(moved);
+        if (Double.isNaN(moved)) {
+            y[i] += dy;
+        } else if (dy > 0) {
+            flags[i] &= ~JUMPING;
+            vy[i] = 0;
+            if (map.isGround(hit[0], x[i] - radius[i], x[i] + radius[i])) {
+                // The agent hit the ground
+                die(i, false, true);
+            } else {
+                y[i] += moved - CONTACT_OFFSET;
+                hit(i, map.getTile(hit[0], hit[1]), true, -1);
+            }
+        } else {
+            vy[i] = 0;
+            y[i] += moved + CONTACT_OFFSET;
+            hit(i, map.getTile(hit[0], hit[1]), true, 1);
+        }
+
+        // Check if the agent won
+        if (map.finish < x[i]) {
+            flags[i] |= WON;
+            die(i, false, false);
+        } else if (free) {
+            findFreeSpace(i);
+        }
+    }
+
+    /**
+     * Remember the space around an agent that moved without touching anything (the tiles it overlaps and one more on
+     * each side, if none of them is solid)
+     *
+     * @param i the agent
+     */
+    private void findFreeSpace(int i) {
+        int left = Map.toTile(x[i] - radius[i]), right = Map.toTile(x[i] + radius[i]) + 2;
+        int top = Map.toTile(y[i] - radius[i]) + Map.HEIGHT_OFFSET - 1, bottom = Map.toTile(y[i] + radius[i]) + Map.HEIGHT_OFFSET + 1;
+        if (!map.isFree(left, right, top, bottom)) return;
+        freeLeft[i] = Map.toX(left) + MARGIN;
+        freeRight[i] = Math.min(Map.toX(right) + Map.SIZE, map.finish) - MARGIN;
+        freeTop[i] = Map.toY(top) + MARGIN;
+        freeBottom[i] = Map.toY(bottom) + Map.SIZE - MARGIN;
+    }
+
+    /**
+     * Apply the effect of a block an agent collided with
+     *
+     * @param i        the agent
+     * @param block    that was hit
+     * @param vertical true if the block was hit from above or below
+     * @param sign     the direction of a boost
+     */
+    private void hit(int i, Blocks block, boolean vertical, int sign) {
+        if (block == Blocks.BOUNCE) {
+            if (vertical) {
+                flags[i] |= JUMPING;
+                vy[i] = sign * Player.BOOST_VELOCITY;
+            } else {
+                vx[i] = sign * Player.BOOST_SIDE_VELOCITY;
+            }
+        } else if (block == Blocks.SPIKE) {
+            die(i, true, true);
+        }
+    }
+
+    /**
+     * Let an agent die
+     *
+     * @param i         the agent
+     * @param animation true if the agent should be animated on death
+     * @param respawn   true if the agent shall respawn automatically
+     */
+    private void die(int i, boolean animation, boolean respawn) {
+        vx[i] = 0;
+        vy[i] = 0;
+        ax[i] = 0;
+        flags[i] |= DEAD;
+        freeLeft[i] = Double.POSITIVE_INFINITY;
+
+        // Respawn the agent
+        if (!respawn) return;
+        if (animation) {
+            flags[i] |= DYING;
+        } else {
+            spawn(i);
+        }
+    }
+
+    /**
+     * Let an agent grow until it respawns
+     *
+     * @param i         the agent
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    private void animateDeath(int i, double deltaTime) {
+        if (radius[i] < Player.DEATH_RADIUS) {
+            radius[i] += Player.DEATH_GROWTH * deltaTime;
+        } else {
+            spawn(i);
+        }
+    }
+}
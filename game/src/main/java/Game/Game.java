@@ -0,0 +1,507 @@
+package Game;
+
+import Game.Models.Map;
+import Game.Render.Minimap;
+import Game.Render.RunBatcher;
+import UI.ChunkCache;
+import UI.FxRenderer;
+import UI.ScrollingMap;
+import UI.Viewport;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+public class Game {
+
+    /**
+     * The delta time (in seconds)
+     */
+    public static double deltaTime = 0;
+    /**
+     * The tick rate of the physics simulation (in ticks per second)
+     */
+    public static int tickRate = 120;
+    /**
+     * The maximum amount of ticks that are simulated per frame
+     */
+    public static int maxTicks = 8;
+    /**
+     * True if the physics are simulated in fixed steps
+     */
+    public static boolean fixedStep = true;
+    /**
+     * True if an endless map is played
+     */
+    public static boolean endless = false;
+    /**
+     * True if the map is drawn from pre-rasterized chunks
+     */
+    public static boolean cacheChunks = true;
+    /**
+     * The amount of columns per chunk and the amount of chunks that are cached beyond the visible ones
+     */
+    public static int chunkSize = 16, chunkMargin = 2;
+    /**
+     * True if the map is kept between frames and only the columns that scroll into view are drawn
+     */
+    public static boolean scrollRendering = true;
+    /**
+     * True if the resolution of the render target drops while the frames take longer than the budget
+     */
+    public static boolean adaptiveResolution = true;
+    /**
+     * The frame rate the adaptive resolution tries to hold
+     */
+    public static double targetFps = 60;
+    /**
+     * The instrumentation of the frames
+     */
+    private final Metrics metrics = new Metrics(3600);
+    /**
+     * True if the metrics are drawn on the canvas
+     */
+    private boolean showMetrics;
+    /**
+     * True if the overview of the map is drawn on the canvas
+     */
+    private boolean showMinimap = true;
+    /**
+     * The service generating the maps
+     */
+    private final MapService mapService = new MapService();
+    /**
+     * The canvas
+     */
+    private final Canvas canvas;
+    /**
+     * The layers of the canvas (the scrolling map is shown behind the canvas)
+     */
+    private final Pane layers;
+    /**
+     * The graphics context of the canvas
+     */
+    private final GraphicsContext g;
+    /**
+     * The renderer drawing on the graphics context
+     */
+    private final FxRenderer renderer;
+    /**
+     * The runs of blocks of the renderer (when the map is drawn without a cache)
+     */
+    private final RunBatcher runs = new RunBatcher();
+    /**
+     * The simulation of the current map
+     */
+    private Simulation simulation;
+    /**
+     * The player
+     */
+    private Player player;
+    /**
+     * The recorder of the inputs on the current map
+     */
+    private InputRecorder recorder;
+    /**
+     * The cache of the map's chunks
+     */
+    private ChunkCache chunkCache;
+    /**
+     * The map that scrolls with the camera
+     */
+    private ScrollingMap scrollingMap;
+    /**
+     * The overview of the map (null on endless maps)
+     */
+    private Minimap minimap;
+    /**
+     * The horizontal start of the visible area when the overview was drawn (NaN if it wasn't drawn)
+     */
+    private double minimapLeft = Double.NaN;
+    /**
+     * The resolution of the render target
+     */
+    private final AdaptiveResolution resolution = new AdaptiveResolution(targetFps);
+    /**
+     * The visible area and the scales of the window and the render target
+     */
+    private final Viewport viewport = new Viewport();
+    /**
+     * The size of the window (in pixels)
+     */
+    private double windowWidth = Viewport.DEFAULT_WIDTH, windowHeight = Viewport.HEIGHT;
+    /**
+     * The horizontal translation of the camera (in world units)
+     */
+    private double cameraX;
+    /**
+     * The area of the canvas that was drawn on during the last frame
+     */
+    private double dirtyX, dirtyY, dirtyWidth, dirtyHeight;
+    /**
+     * The game timer
+     */
+    private AnimationTimer gameTimer;
+    /**
+     * The last time the game was drawn (in nanoseconds)
+     */
+    private long lastTime;
+    /**
+     * True if the last frame is kept as nothing moves anymore (on the victory screen)
+     */
+    private boolean idle;
+    /**
+     * True while the game waits for the next map to be generated
+     */
+    private boolean loading;
+
+    /**
+     * Constructor
+     */
+    public Game(Canvas canvas, Pane layers) {
+        // Get the graphics context
+        this.canvas = canvas;
+        this.layers = layers;
+        this.g = canvas.getGraphicsContext2D();
+        this.renderer = new FxRenderer(g, viewport);
+        applyResolution();
+
+        // Start the game
+        start();
+
+        // Setup the key events
+        setupControls();
+    }
+
+    /**
+     * Start the game
+     */
+    private void start() {
+        // Generate the endless map while playing
+        if (endless) {
+            start(MapGenerator.createEndlessMap());
+            return;
+        }
+
+        // Start the next level
+        next();
+    }
+
+    /**
+     * Start the game on the next map (right away if it was generated already)
+     */
+    private void next() {
+        loading = true;
+        CompletableFuture<Map> map = mapService.take();
+        if (map.isDone()) {
+            start(map.join());
+        } else {
+            map.thenAcceptAsync(this::start, Platform::runLater);
+        }
+    }
+
+    /**
+     * Start the game on a map
+     *
+     * @param map to be played
+     */
+    private void start(Map map) {
+        // Stop drawing the previous map and generating it
+        if (gameTimer != null) gameTimer.stop();
+        if (simulation != null) simulation.close();
+        loading = false;
+
+        // Create the simulation and the player
+        this.simulation = new Simulation(map, tickRate, maxTicks);
+        this.player = simulation.player;
+        this.recorder = endless ? null : new InputRecorder(map.seed, tickRate);
+        simulation.record(recorder);
+        if (!Double.isNaN(minimapLeft)) {
+            g.clearRect(minimapLeft, viewport.getHeight() - minimap.getHeight(),
+                    minimap.getWidth(), minimap.getHeight());
+            minimapLeft = Double.NaN;
+        }
+        this.minimap = endless ? null : new Minimap(map);
+        setupView(map);
+        this.lastTime = 0;
+        this.idle = false;
+
+        // Start drawing the game
+        gameTimer = new AnimationTimer() {
+            public void handle(long currentNanoTime) {
+                // Keep the last frame while the victory screen stands still
+                if (idle) {
+                    lastTime = currentNanoTime;
+                    return;
+                }
+
+                // Get the time
+                if (lastTime == 0) lastTime = currentNanoTime - 5000;
+                deltaTime = (double) (currentNanoTime - lastTime) / 1e9;
+                metrics.startFrame(currentNanoTime - lastTime);
+                long time = System.nanoTime();
+
+                // Move the player
+                int ticks = simulate();
+                time = metrics.lap(Metrics.Phase.SIMULATE, time);
+
+                // Draw the map and the player
+                moveCamera(g);
+                time = metrics.lap(Metrics.Phase.CAMERA, time);
+                if (scrollingMap != null) {
+                    scrollingMap.draw(cameraX);
+                } else if (chunkCache != null) {
+                    chunkCache.draw(g, -cameraX, viewport.getWidth());
+                } else {
+                    map.drawMap(renderer, runs, player);
+                }
+                player.drawPlayer(renderer);
+                drawMinimap();
+                if (showMetrics) metrics.drawOverlay(renderer, -cameraX);
+                if (scrollingMap != null) markDirty();
+                metrics.lap(Metrics.Phase.DRAW, time);
+                metrics.endFrame(ticks);
+
+                // Stop drawing once the camera reached the player on the victory screen
+                idle = player.won && Math.abs(viewport.getHalfWidth() - player.renderX - cameraX) < 0.5;
+
+                // Change the resolution if the frames are too slow (or fast enough again)
+                if (adaptiveResolution && resolution.update(currentNanoTime - lastTime)) applyResolution();
+
+                lastTime = currentNanoTime;
+            }
+        };
+        gameTimer.start();
+    }
+
+    /**
+     * Stop the game when the window is closed
+     */
+    public void stop() {
+        if (gameTimer != null) gameTimer.stop();
+        if (simulation != null) simulation.close();
+    }
+
+    /**
+     * Fit the game into a resized window (at the full resolution again)
+     *
+     * @param width  of the window (in pixels)
+     * @param height of the window (in pixels)
+     */
+    public void resize(double width, double height) {
+        if (width <= 0 || height <= 0 || (width == windowWidth && height == windowHeight)) return;
+        windowWidth = width;
+        windowHeight = height;
+        resolution.reset();
+        applyResolution();
+    }
+
+    /**
+     * Size the render target for the window and the current resolution (it's scaled up by an integer factor)
+     */
+    private void applyResolution() {
+        viewport.layout(windowWidth, windowHeight, resolution.getDivisor());
+        canvas.setWidth(Math.ceil(viewport.getWidth() * viewport.getRenderScale()));
+        canvas.setHeight(Math.ceil(viewport.getHeight() * viewport.getRenderScale()));
+        layers.setClip(new Rectangle(canvas.getWidth(), canvas.getHeight()));
+        layers.getTransforms().setAll(new Scale(viewport.getDivisor(), viewport.getDivisor()));
+
+        // Start over with an empty canvas
+        g.setTransform(1, 0, 0, 1, 0, 0);
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        double scale = viewport.getRenderScale();
+        g.setTransform(scale, 0, 0, scale, cameraX * scale, 0);
+        dirtyWidth = dirtyHeight = 0;
+        minimapLeft = Double.NaN;
+        idle = false;
+        if (simulation != null) setupView(simulation.map);
+    }
+
+    /**
+     * Create the parts of the view that depend on the map and the size of the render target
+     *
+     * @param map that is shown
+     */
+    private void setupView(Map map) {
+        this.chunkCache = cacheChunks && !scrollRendering
+                ? new ChunkCache(map, chunkSize, chunkMargin, viewport) : null;
+        if (scrollingMap != null) scrollingMap.dispose();
+        this.scrollingMap = scrollRendering
+                ? new ScrollingMap(map, layers, viewport) : null;
+        if (minimap != null) minimap.layout(viewport.getWidth() - 2 * Minimap.MARGIN);
+    }
+
+    /**
+     * Simulate the time that passed since the last frame
+     *
+     * @return the amount of simulated ticks
+     */
+    private int simulate() {
+        // Move the player once per frame
+        if (!fixedStep) {
+            simulation.tick(deltaTime);
+            player.interpolate(1);
+            return 1;
+        }
+
+        // Catch up in fixed steps and interpolate between the last two ticks
+        int ticks = simulation.advance(deltaTime);
+        player.interpolate(simulation.getAlpha());
+        return ticks;
+    }
+
+    /**
+     * Draw the overview of the map at the bottom of the visible area
+     */
+    private void drawMinimap() {
+        minimapLeft = Double.NaN;
+        if (!showMinimap || minimap == null) return;
+        minimapLeft = -cameraX;
+        minimap.draw(renderer, minimapLeft, player.renderX, player.renderY);
+    }
+
+    /**
+     * Write the overview of the current map into the working directory
+     */
+    private void exportMinimap() {
+        if (minimap == null) return;
+        try {
+            for (int level = 0; level < Minimap.LEVELS; level++) {
+                minimap.writePng(level, Path.of("minimap-" + simulation.map.seed + "-" + level + ".png"));
+            }
+        } catch (IOException e) {
+            System.err.println("Couldn't export the minimap: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Save the recorded inputs on the current map into the working directory
+     */
+    private void saveRecording() {
+        if (recorder == null || !fixedStep) return;
+        try {
+            recorder.save(Path.of("recording-" + recorder.seed + ".bin"));
+        } catch (IOException e) {
+            System.err.println("Couldn't save the recording: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the recorded metrics into the working directory
+     */
+    private void exportMetrics() {
+        String name = "metrics-" + System.currentTimeMillis();
+        try {
+            metrics.writeCsv(Path.of(name + ".csv"));
+            metrics.writeJson(Path.of(name + ".json"));
+        } catch (IOException e) {
+            System.err.println("Couldn't export the metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Move the camera
+     *
+     * @param g the graphics context
+     */
+    private void moveCamera(GraphicsContext g) {
+        // Clear the graphics (only what was drawn on the last frame if the map scrolls on its own)
+        if (scrollingMap != null) {
+            g.clearRect(dirtyX, dirtyY, dirtyWidth, dirtyHeight);
+            if (!Double.isNaN(minimapLeft)) {
+                g.clearRect(minimapLeft, viewport.getHeight() - minimap.getHeight(),
+                        minimap.getWidth(), minimap.getHeight());
+            }
+        } else {
+            g.clearRect(-cameraX, 0, viewport.getWidth(), viewport.getHeight());
+        }
+
+        // Calculate the new x position
+        double targetX = viewport.getHalfWidth() - player.renderX;
+        cameraX += 4 * (targetX - cameraX) * deltaTime;
+
+        // Move the camera (in pixels of the render target)
+        double scale = viewport.getRenderScale();
+        g.setTransform(scale, 0, 0, scale, cameraX * scale, 0);
+    }
+
+    /**
+     * Remember the area of the canvas that was drawn on during this frame
+     */
+    private void markDirty() {
+        // The player (with a margin of one pixel for the anti-aliasing)
+        dirtyX = player.renderX - player.radius - 1;
+        dirtyY = player.renderY - player.radius - 1;
+        dirtyWidth = dirtyHeight = 2 * player.radius + 2;
+
+        // The victory screen
+        if (player.won) {
+            dirtyX = player.renderX - viewport.getWidth() - 1;
+            dirtyY = 0;
+            dirtyWidth = 2 * viewport.getWidth() + 2;
+            dirtyHeight = viewport.getHeight();
+        }
+
+        // The metrics
+        if (showMetrics) {
+            double left = -cameraX, right = Math.max(dirtyX + dirtyWidth, left + Metrics.OVERLAY_WIDTH);
+            double bottom = Math.max(dirtyY + dirtyHeight, metrics.getOverlayHeight());
+            dirtyX = Math.min(dirtyX, left);
+            dirtyY = 0;
+            dirtyWidth = right - dirtyX;
+            dirtyHeight = bottom;
+        }
+    }
+
+    /**
+     * Setup the controls
+     */
+    private void setupControls() {
+        // When the key is pressed
+        canvas.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.F3) {
+                showMetrics = !showMetrics;
+                idle = false;
+            } else if (e.getCode() == KeyCode.F4) {
+                exportMetrics();
+            }
+            if (player == null) return;
+            if (e.getCode() == KeyCode.SPACE && player.won) {
+                if (!loading) next();
+            } else if (e.getCode() == KeyCode.F5) {
+                saveRecording();
+            } else if (e.getCode() == KeyCode.F6) {
+                exportMinimap();
+            } else if (e.getCode() == KeyCode.M) {
+                showMinimap = !showMinimap;
+                idle = false;
+            } else if (e.getCode() == KeyCode.D) {
+                simulation.input(Input.RIGHT);
+            } else if (e.getCode() == KeyCode.A) {
+                simulation.input(Input.LEFT);
+            } else if (e.getCode() == KeyCode.W) {
+                simulation.input(Input.JUMP);
+            }
+        });
+
+        // When the key is released
+        canvas.setOnKeyReleased(e -> {
+            if (player == null) return;
+            if (e.getCode() == KeyCode.D) {
+                simulation.input(Input.STOP);
+            } else if (e.getCode() == KeyCode.A) {
+                simulation.input(Input.STOP);
+            } else if (e.getCode() == KeyCode.W) {
+                simulation.input(Input.JUMP);
+            }
+        });
+    }
+}
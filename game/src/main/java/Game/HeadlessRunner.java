@@ -0,0 +1,47 @@
+package Game;
+
+public class HeadlessRunner {
+
+    /**
+     * The tick rate of the simulation (in ticks per second)
+     */
+    private static final int TICK_RATE = 120;
+
+    /**
+     * Run simulations without rendering as fast as possible (a throughput measurement: the scripted input doesn't
+     * clear the maps, MapEvaluator checks if they can be cleared)
+     *
+     * @param args the amount of runs and the ticks per run
+     */
+    public static void main(String[] args) {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+        long total = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            Simulation simulation = new Simulation(MapGenerator.createMap(), TICK_RATE, 1);
+            run(simulation, ticks);
+            total += simulation.ticks;
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d runs, %d ticks in %.2f s (%.0f ticks/s)%n", runs, total, seconds, total / seconds);
+    }
+
+    /**
+     * Run a simulation with a simple input that runs to the right and jumps constantly (queued on every tick like
+     * the inputs of a player, so that it applies again after a respawn)
+     *
+     * @param simulation to be run
+     * @param ticks      the maximum amount of ticks
+     */
+    public static void run(Simulation simulation, int ticks) {
+        Player player = simulation.player;
+        for (int i = 0; i < ticks && !player.won; i++) {
+            simulation.input(Input.RIGHT);
+            simulation.input(Input.JUMP);
+            simulation.tick();
+        }
+    }
+}
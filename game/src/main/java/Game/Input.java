@@ -0,0 +1,81 @@
+package Game;
+
+public enum Input {
+
+    /**
+     * Accelerate to the right
+     */
+    RIGHT,
+    /**
+     * Accelerate to the left
+     */
+    LEFT,
+    /**
+     * Stop accelerating
+     */
+    STOP,
+    /**
+     * Start a jump
+     */
+    JUMP;
+
+    /**
+     * The inputs by their ids (cached as values() returns a new copy on every call)
+     */
+    private static final Input[] VALUES = values();
+
+    /**
+     * Get an input by its id
+     *
+     * @param id of the input
+     * @return the input
+     */
+    public static Input get(int id) {
+        return VALUES[id];
+    }
+
+    /**
+     * Apply the input to a player
+     *
+     * @param player to be controlled
+     */
+    public void apply(Player player) {
+        switch (this) {
+            case RIGHT:
+                player.accelerate(Player.ACCELERATION);
+                break;
+            case LEFT:
+                player.accelerate(-Player.ACCELERATION);
+                break;
+            case STOP:
+                player.accelerate(0);
+                break;
+            case JUMP:
+                player.jump();
+                break;
+        }
+    }
+
+    /**
+     * Apply the input to an agent
+     *
+     * @param agents the agent is stored in
+     * @param i      the agent
+     */
+    public void apply(Agents agents, int i) {
+        switch (this) {
+            case RIGHT:
+                agents.accelerate(i, Player.ACCELERATION);
+                break;
+            case LEFT:
+                agents.accelerate(i, -Player.ACCELERATION);
+                break;
+            case STOP:
+                agents.accelerate(i, 0);
+                break;
+            case JUMP:
+                agents.jump(i);
+                break;
+        }
+    }
+}
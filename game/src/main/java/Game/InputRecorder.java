@@ -0,0 +1,195 @@
+package Game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+public class InputRecorder {
+
+    /**
+     * The magic number and the version of the file format
+     */
+    private static final int MAGIC = 0x4A4E5249, VERSION = 4;
+    /**
+     * The amount of ticks between two stored hashes of the player's state
+     */
+    public static final int CHECKPOINT_INTERVAL = 120;
+    /**
+     * The seed of the recorded map
+     */
+    public final long seed;
+    /**
+     * The tick rate of the recorded simulation (in ticks per second)
+     */
+    public final int tickRate;
+    /**
+     * The ticks of the inputs
+     */
+    private long[] ticks = new long[256];
+    /**
+     * The ids of the inputs
+     */
+    private byte[] inputs = new byte[256];
+    /**
+     * The amount of recorded inputs
+     */
+    private int size;
+    /**
+     * The hashes of the player's state after every CHECKPOINT_INTERVAL ticks
+     */
+    private long[] checkpoints = new long[64];
+    /**
+     * The amount of stored hashes
+     */
+    private int checkpointCount;
+    /**
+     * The amount of recorded ticks
+     */
+    public long length;
+    /**
+     * The position of the player after the last recorded tick
+     */
+    public double x, y;
+    /**
+     * True if the player had won after the last recorded tick
+     */
+    public boolean won;
+
+    /**
+     * Constructor
+     *
+     * @param seed     of the recorded map
+     * @param tickRate of the recorded simulation
+     */
+    public InputRecorder(long seed, int tickRate) {
+        this.seed = seed;
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Record an input
+     *
+     * @param tick  the input is applied on
+     * @param input to be recorded
+     */
+    public void record(long tick, Input input) {
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, 2 * size);
+            inputs = Arrays.copyOf(inputs, 2 * size);
+        }
+        ticks[size] = tick;
+        inputs[size] = (byte) input.ordinal();
+        size++;
+    }
+
+    /**
+     * Record the state of the player after a tick (a hash on every checkpoint and the outcome so far)
+     *
+     * @param tick   the amount of ticks simulated so far
+     * @param player after the tick
+     */
+    public void update(long tick, Player player) {
+        length = tick;
+        x = player.x;
+        y = player.y;
+        won = player.won;
+        if (tick % CHECKPOINT_INTERVAL != 0) return;
+        if (checkpointCount == checkpoints.length) checkpoints = Arrays.copyOf(checkpoints, 2 * checkpointCount);
+        checkpoints[checkpointCount++] = player.hashState();
+    }
+
+    /**
+     * @return the amount of stored hashes of the player's state
+     */
+    public int checkpoints() {
+        return checkpointCount;
+    }
+
+    /**
+     * @param index of the checkpoint
+     * @return the hash of the player's state after (index + 1) * CHECKPOINT_INTERVAL ticks
+     */
+    public long getCheckpoint(int index) {
+        return checkpoints[index];
+    }
+
+    /**
+     * @return the amount of recorded inputs
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index of the input
+     * @return the tick of the input
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * @param index of the input
+     * @return the input
+     */
+    public Input getInput(int index) {
+        return Input.get(inputs[index]);
+    }
+
+    /**
+     * Save the recording
+     *
+     * @param path of the file
+     * @throws IOException if the file can't be written
+     */
+    public void save(Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.writeInt(tickRate);
+            out.writeLong(length);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeLong(ticks[i]);
+                out.writeByte(inputs[i]);
+            }
+
+            // Write the observed outcome (a replay has to reproduce it)
+            out.writeDouble(x);
+            out.writeDouble(y);
+            out.writeBoolean(won);
+            out.writeInt(checkpointCount);
+            for (int i = 0; i < checkpointCount; i++) out.writeLong(checkpoints[i]);
+        }
+    }
+
+    /**
+     * Load a recording
+     *
+     * @param path of the file
+     * @return the recording
+     * @throws IOException if the file can't be read or is no recording
+     */
+    public static InputRecorder load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) throw new IOException("Not a recording: " + path);
+            InputRecorder recording = new InputRecorder(in.readLong(), in.readInt());
+            recording.length = in.readLong();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) recording.record(in.readLong(), Input.get(in.readByte()));
+            recording.x = in.readDouble();
+            recording.y = in.readDouble();
+            recording.won = in.readBoolean();
+            recording.checkpointCount = in.readInt();
+            recording.checkpoints = new long[Math.max(recording.checkpointCount, 1)];
+            for (int i = 0; i < recording.checkpointCount; i++) recording.checkpoints[i] = in.readLong();
+            return recording;
+        }
+    }
+}
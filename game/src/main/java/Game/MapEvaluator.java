@@ -0,0 +1,345 @@
+package Game;
+
+import Game.Models.Blocks;
+import Game.Models.Map;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+public class MapEvaluator {
+
+    /**
+     * The ways to leave a surface: walking off its edge, jumping and being launched by a bounce block
+     */
+    private static final int WALK = 0, JUMP = 1, BOUNCE = 2;
+    /**
+     * The upward speeds of the ways to leave a surface
+     */
+    private static final double[] LAUNCH_VELOCITIES = {0, Player.JUMP_VELOCITY, Player.BOOST_VELOCITY};
+    /**
+     * The map that is evaluated
+     */
+    private final Map map;
+    /**
+     * The horizontal reach of an arc by the way it started and the rows it ends lower (in world units, -1 if out of reach)
+     */
+    private final double[][] reach = new double[LAUNCH_VELOCITIES.length][];
+    /**
+     * The maximum horizontal distance of an arc (in columns)
+     */
+    private final int maxColumns;
+    /**
+     * The index of the first surface of each column (and the amount of surfaces at the end)
+     */
+    private final int[] first;
+    /**
+     * The columns, the rows and the block ids of the surfaces
+     */
+    private int[] columns, rows;
+    private byte[] types;
+    /**
+     * The amount of jumps needed to reach the surfaces (-1 if not reached yet)
+     */
+    private int[] jumps;
+    /**
+     * The surface each surface was reached from and how close that arc was to its limit (0 to 1)
+     */
+    private int[] parents;
+    private double[] ratios;
+
+    /**
+     * Constructor
+     *
+     * @param map to be evaluated
+     */
+    public MapEvaluator(Map map) {
+        this.map = map;
+        this.first = new int[map.width + 1];
+
+        // Calculate the reach of the arcs for every difference of the rows
+        double maxReach = 0;
+        for (int launch = 0; launch < reach.length; launch++) {
+            double velocity = LAUNCH_VELOCITIES[launch];
+            reach[launch] = new double[2 * map.height + 1];
+            for (int rows = -map.height; rows <= map.height; rows++) {
+                double drop = rows * Map.SIZE, discriminant = velocity * velocity + 2 * Player.GRAVITY * drop;
+                double time = (velocity + Math.sqrt(discriminant)) / Player.GRAVITY;
+                reach[launch][rows + map.height] = discriminant < 0 ? -1 : Player.MAX_VELOCITY * time;
+                maxReach = Math.max(maxReach, reach[launch][rows + map.height]);
+            }
+        }
+        this.maxColumns = (int) Math.ceil(maxReach / Map.SIZE) + 1;
+    }
+
+    /**
+     * Evaluate the map with a search over its surfaces (the arcs ignore blocks in their way, so it's optimistic)
+     *
+     * @return the result
+     */
+    public Result evaluate() {
+        findSurfaces();
+
+        // Find the surface the player spawns on
+        int column = Map.toTile(map.x) + 1, start = -1;
+        for (int i = first[column]; i < first[column + 1] && start < 0; i++) {
+            if (Map.toY(rows[i]) >= map.y) start = i;
+        }
+        if (start < 0) return new Result(map.seed, false, 0, 0, 0);
+
+        // Search the surfaces level by level (a level needs one jump more than the last one)
+        int[] level = new int[rows.length], next = new int[rows.length];
+        int levelSize = 1, goal = -1;
+        level[0] = start;
+        jumps[start] = 0;
+        for (int depth = 0; levelSize > 0 && goal < 0; depth++) {
+            // Add the surfaces that are reached without jumping
+            for (int i = 0; i < levelSize; i++) {
+                int surface = level[i];
+                int launch = types[surface] == Blocks.BOUNCE.ordinal() ? BOUNCE : WALK;
+                levelSize = visit(surface, launch, depth, level, levelSize);
+            }
+
+            // Check if the finish was reached
+            for (int i = 0; i < levelSize && goal < 0; i++) {
+                if (Map.toX(columns[level[i]] + 1) > map.finish) goal = level[i];
+            }
+
+            // Jump from the normal surfaces
+            int nextSize = 0;
+            for (int i = 0; i < levelSize; i++) {
+                if (types[level[i]] == Blocks.NORMAL.ordinal()) nextSize = visit(level[i], JUMP, depth + 1, next, nextSize);
+            }
+            int[] swap = level;
+            level = next;
+            next = swap;
+            levelSize = nextSize;
+        }
+        if (goal < 0) return new Result(map.seed, false, 0, 0, 0);
+
+        // Follow the path back to the start (only the arcs over gaps count for the difficulty)
+        double hardest = 0, sum = 0;
+        int arcs = 0;
+        for (int surface = goal; surface != start; surface = parents[surface]) {
+            if (ratios[surface] == 0) continue;
+            hardest = Math.max(hardest, ratios[surface]);
+            sum += ratios[surface];
+            arcs++;
+        }
+        return new Result(map.seed, true, jumps[goal], hardest, arcs == 0 ? 0 : sum / arcs);
+    }
+
+    /**
+     * Visit the surfaces that are reached from a surface
+     *
+     * @param from   the surface that is left
+     * @param launch the way the surface is left
+     * @param depth  the amount of jumps needed to reach the visited surfaces
+     * @param queue  the surfaces of the depth
+     * @param size   the amount of surfaces in the queue
+     * @return the new amount of surfaces in the queue
+     */
+    private int visit(int from, int launch, int depth, int[] queue, int size) {
+        int column = columns[from];
+        int firstColumn = Math.max(column - maxColumns, 1), lastColumn = Math.min(column + maxColumns, map.width - 2);
+        for (int n = firstColumn; n <= lastColumn; n++) {
+            double distance = Math.max(Math.abs(n - column) - 1, 0) * Map.SIZE;
+            for (int surface = first[n]; surface < first[n + 1]; surface++) {
+                if (jumps[surface] >= 0 && jumps[surface] < depth) continue;
+                double limit = reach[launch][rows[surface] - rows[from] + map.height];
+                if (limit < 0 || distance > limit) continue;
+
+                // Remember the easiest jump onto the surface (walks keep the first way, so the paths have no cycles)
+                double ratio = distance == 0 ? 0 : distance / limit;
+                if (jumps[surface] == depth) {
+                    if (ratio < ratios[surface] && jumps[from] < depth) {
+                        parents[surface] = from;
+                        ratios[surface] = ratio;
+                    }
+                    continue;
+                }
+                jumps[surface] = depth;
+                parents[surface] = from;
+                ratios[surface] = ratio;
+                queue[size++] = surface;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Find the surfaces the player can land on (memoized per column, spikes and the ground are left out)
+     */
+    private void findSurfaces() {
+        int count = 0;
+        columns = new int[64];
+        rows = new int[64];
+        types = new byte[64];
+        for (int n = 1; n < map.width - 1; n++) {
+            first[n] = count;
+            int top = map.getTop(n);
+            if (top == Map.NONE) continue;
+
+            // Only the rows between the surface and the lowest tile of the column can be landed on
+            for (int m = top; m <= map.getBottom(n); m++) {
+                Blocks block = map.get(m, n);
+                if (!block.solid || map.get(m - 1, n).solid || block == Blocks.SPIKE) continue;
+                if (count == rows.length) {
+                    columns = Arrays.copyOf(columns, 2 * count);
+                    rows = Arrays.copyOf(rows, 2 * count);
+                    types = Arrays.copyOf(types, 2 * count);
+                }
+                columns[count] = n;
+                rows[count] = m;
+                types[count++] = (byte) block.ordinal();
+            }
+        }
+        first[map.width - 1] = first[map.width] = count;
+
+        // Prepare the search
+        jumps = new int[count];
+        Arrays.fill(jumps, -1);
+        parents = new int[count];
+        ratios = new double[count];
+    }
+
+    /**
+     * Evaluate generated maps in parallel on the common fork-join pool
+     *
+     * @param from  the first seed
+     * @param count the amount of seeds
+     * @return the summary of the results
+     */
+    public static Summary evaluateSeeds(long from, long count) {
+        return LongStream.range(from, from + count).parallel()
+                .mapToObj(seed -> new MapEvaluator(MapGenerator.createMap(seed)).evaluate())
+                .collect(Summary::new, Summary::add, Summary::merge);
+    }
+
+    /**
+     * Evaluate generated maps and print the summary
+     *
+     * @param args the amount of seeds and the first seed
+     */
+    public static void main(String[] args) {
+        long count = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        long from = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        long start = System.nanoTime();
+        Summary summary = evaluateSeeds(from, count);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println(summary);
+        System.out.printf("%d seeds in %.2f s (%.0f seeds/s)%n", count, seconds, count / seconds);
+    }
+
+    /**
+     * The evaluation of a map
+     */
+    public static class Result {
+
+        /**
+         * The seed of the map
+         */
+        public final long seed;
+        /**
+         * True if the finish can be reached
+         */
+        public final boolean solvable;
+        /**
+         * The least amount of jumps needed to reach the finish
+         */
+        public final int jumps;
+        /**
+         * How close the hardest jump on the path is to the limit (0 to 1)
+         */
+        public final double hardest;
+        /**
+         * How close the arcs over gaps on the path are to the limit on average (0 to 1)
+         */
+        public final double difficulty;
+
+        /**
+         * Constructor
+         */
+        public Result(long seed, boolean solvable, int jumps, double hardest, double difficulty) {
+            this.seed = seed;
+            this.solvable = solvable;
+            this.jumps = jumps;
+            this.hardest = hardest;
+            this.difficulty = difficulty;
+        }
+    }
+
+    /**
+     * The summary of the evaluations of many maps
+     */
+    public static class Summary {
+
+        /**
+         * The amount of buckets of the difficulty histogram
+         */
+        private static final int BUCKETS = 10;
+        /**
+         * The amount of evaluated and solvable maps
+         */
+        public long maps, solvable;
+        /**
+         * The sums of the jumps and of the difficulties of the solvable maps
+         */
+        public double jumps, difficulty;
+        /**
+         * The amount of solvable maps per tenth of the difficulty
+         */
+        public final long[] histogram = new long[BUCKETS];
+        /**
+         * True if any of the maps is unsolvable
+         */
+        public boolean unsolvable;
+        /**
+         * The lowest seed of an unsolvable map (only set if there is one, as any long is a valid seed)
+         */
+        public long unsolvableSeed;
+
+        /**
+         * Add the evaluation of a map
+         *
+         * @param result of the evaluation
+         */
+        public void add(Result result) {
+            maps++;
+            if (!result.solvable) {
+                if (!unsolvable || result.seed < unsolvableSeed) unsolvableSeed = result.seed;
+                unsolvable = true;
+                return;
+            }
+            solvable++;
+            jumps += result.jumps;
+            difficulty += result.difficulty;
+            histogram[Math.min((int) (result.difficulty * BUCKETS), BUCKETS - 1)]++;
+        }
+
+        /**
+         * Merge the summary of other maps into this one
+         *
+         * @param other the summary
+         */
+        public void merge(Summary other) {
+            maps += other.maps;
+            solvable += other.solvable;
+            jumps += other.jumps;
+            difficulty += other.difficulty;
+            for (int i = 0; i < BUCKETS; i++) histogram[i] += other.histogram[i];
+            if (other.unsolvable && (!unsolvable || other.unsolvableSeed < unsolvableSeed)) {
+                unsolvableSeed = other.unsolvableSeed;
+                unsolvable = true;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d maps, %.2f %% solvable (first unsolvable seed %s), %.1f jumps, difficulty %.3f%n"
+                            + "difficulty histogram: %s", maps, 100.0 * solvable / maps, unsolvable ? unsolvableSeed : "none",
+                    jumps / Math.max(solvable, 1), difficulty / Math.max(solvable, 1), Arrays.toString(histogram));
+        }
+    }
+}
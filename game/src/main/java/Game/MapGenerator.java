@@ -0,0 +1,309 @@
+package Game;
+
+import Game.Models.Blocks;
+import Game.Models.EndlessMap;
+import Game.Models.Map;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class MapGenerator {
+
+    /**
+     * The height of a map
+     */
+    private static final int HEIGHT = 70;
+    /**
+     * Margin to the start and the end of a map
+     */
+    private static final int MARGIN = 20;
+    /**
+     * The distances after a field was generated
+     */
+    public static final int MAX_HEIGHT = 6, MAX_HEIGHT_BOUNCE = 10;
+    /**
+     * The maximum length of a platform
+     */
+    public static final int MAX_PLATFORM = 10;
+    /**
+     * The columns an endless map keeps ahead of and behind the player
+     */
+    public static final int AHEAD = 100, BEHIND = 60;
+    /**
+     * The random numbers of this generation
+     */
+    private final SplittableRandom random;
+    /**
+     * The map to be generated
+     */
+    private final Map map;
+    /**
+     * The end of the main part (exclusive)
+     */
+    private final int end;
+    /**
+     * The next column of the main part to be generated
+     */
+    private int next = MARGIN + 6;
+    /**
+     * The height of the last block that was placed
+     */
+    private int lastHeight;
+    /**
+     * The maximum distance to the last height
+     */
+    private int maxHeight = MAX_HEIGHT;
+    /**
+     * The first column of an endless map that is not generated yet
+     */
+    private int generated;
+
+    /**
+     * Constructor
+     *
+     * @param map    to be generated
+     * @param end    of the main part (exclusive)
+     * @param seed   of the map
+     * @param random the random numbers of the generation
+     */
+    private MapGenerator(Map map, int end, long seed, SplittableRandom random) {
+        this.map = map;
+        this.end = end;
+        this.random = random;
+        map.seed = seed;
+    }
+
+    /**
+     * Generate a map with a random seed in the current thread
+     *
+     * @return the generated map
+     */
+    public static Map createMap() {
+        return createMap(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Generate a map in the current thread (the same seed always yields the same map)
+     *
+     * @param seed of the map
+     * @return the generated map
+     */
+    public static Map createMap(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return createMap(seed, random.nextInt(300, 501), random);
+    }
+
+    /**
+     * Generate a map with a certain width in the current thread
+     *
+     * @param seed  of the map
+     * @param width of the map
+     * @return the generated map
+     */
+    public static Map createMap(long seed, int width) {
+        return createMap(seed, width, new SplittableRandom(seed));
+    }
+
+    /**
+     * Generate maps in parallel on the common fork-join pool
+     *
+     * @param seeds of the maps
+     * @return the generated maps (in the order of the seeds)
+     */
+    public static Map[] createMaps(long... seeds) {
+        return Arrays.stream(seeds).parallel().mapToObj(MapGenerator::createMap).toArray(Map[]::new);
+    }
+
+    /**
+     * Generate a map in the current thread
+     *
+     * @param seed   of the map
+     * @param width  of the map
+     * @param random the random numbers of the generation
+     * @return the generated map
+     */
+    private static Map createMap(long seed, int width, SplittableRandom random) {
+        // Initialize the map
+        MapGenerator generator = new MapGenerator(new Map(width, HEIGHT), width - MARGIN - 6, seed, random);
+        generator.setBorder(0, width);
+        generator.setStart();
+
+        // Generate the main part
+        generator.generateMain(generator.end);
+        return generator.map;
+    }
+
+    /**
+     * Create an endless map with a random seed
+     *
+     * @return the endless map
+     */
+    public static EndlessMap createEndlessMap() {
+        return createEndlessMap(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Create an endless map that is generated ahead of the player in a new thread
+     *
+     * @param seed of the map
+     * @return the endless map
+     */
+    public static EndlessMap createEndlessMap(long seed) {
+        // Initialize the map
+        EndlessMap map = new EndlessMap(HEIGHT, AHEAD, BEHIND, MAX_PLATFORM);
+        MapGenerator generator = new MapGenerator(map, Integer.MAX_VALUE, seed, new SplittableRandom(seed));
+        generator.setStart();
+
+        // Generate the first chunks right away
+        map.follow(map.x);
+        generator.generateChunk(map.getDemand());
+
+        // Generate the next chunks whenever the player comes closer to the end
+        Thread thread = new Thread(generator::stream, "Endless map generator");
+        thread.setDaemon(true);
+        thread.start();
+        return map;
+    }
+
+    /**
+     * Generate the chunks of an endless map as they are requested
+     */
+    private void stream() {
+        try {
+            while (true) generateChunk(((EndlessMap) map).awaitDemand());
+        } catch (InterruptedException e) {
+            // The map was closed
+        }
+    }
+
+    /**
+     * Generate the next columns of an endless map
+     *
+     * @param until the column until which the map should be generated (exclusive)
+     */
+    private void generateChunk(int until) {
+        EndlessMap map = (EndlessMap) this.map;
+        map.prepare(until);
+        setBorder(generated, until);
+        generateMain(until);
+        map.publish(until);
+        generated = until;
+    }
+
+    /**
+     * Set the border of the map
+     *
+     * @param from the first column (inclusive)
+     * @param to   the last column (exclusive)
+     */
+    private void setBorder(int from, int to) {
+        for (int m = 0; m < HEIGHT; m++) {
+            if (from == 0) map.set(m, 0, Blocks.NORMAL);
+            if (to == map.width) map.set(m, map.width - 1, Blocks.NORMAL);
+        }
+        for (int n = from; n < to; n++) {
+            map.set(0, n, Blocks.NORMAL);
+            map.set(HEIGHT - 1, n, Blocks.NORMAL);
+        }
+    }
+
+    /**
+     * Set the start platforms
+     */
+    private void setStart() {
+        map.x = (MARGIN + 3) * Map.SIZE;
+        map.y = 50;
+        map.finish = end == Integer.MAX_VALUE ? Integer.MAX_VALUE : (map.width - MARGIN - 3) * Map.SIZE;
+
+        // Set the start platform
+        lastHeight = random(12, 16);
+        for (int n = MARGIN; n < MARGIN + 6; n++) {
+            map.set(lastHeight + Map.HEIGHT_OFFSET, n, Blocks.NORMAL);
+        }
+
+        // Set the end platform
+        if (end == Integer.MAX_VALUE) return;
+        for (int n = map.width - MARGIN - 6; n < map.width - MARGIN; n++) {
+            map.set(18 + Map.HEIGHT_OFFSET, n, Blocks.NORMAL);
+        }
+    }
+
+    /**
+     * Generate the main part of the map (platforms may reach beyond the last column)
+     *
+     * @param until the last column to be generated (exclusive)
+     */
+    private void generateMain(int until) {
+        for (; next < Math.min(until, end); next++) {
+            // Update the current height
+            int currentHeight = lastHeight - maxHeight;
+
+            // Check if the next field has to be a platform
+            if (currentHeight >= 20) {
+                next += generatePlatform(Blocks.NORMAL, next, currentHeight);
+                lastHeight = currentHeight;
+                maxHeight = MAX_HEIGHT;
+            } else if (currentHeight < 4) {
+                maxHeight--;
+            } else {
+                // Make a random decision
+                int random = random(0, 7);
+                if (random < 5) {
+                    maxHeight--;
+                } else if (random < 7) {
+                    next += generatePlatform(Blocks.NORMAL, next, currentHeight);
+                    maxHeight = MAX_HEIGHT;
+                    lastHeight = currentHeight;
+                } else if (random < 8) {
+                    currentHeight = random(15, 19);
+                    next += generatePlatform(Blocks.BOUNCE, next, currentHeight);
+                    maxHeight = MAX_HEIGHT_BOUNCE;
+                    lastHeight = currentHeight;
+                } else {
+                    maxHeight--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Generate a platform
+     *
+     * @param type   of the platform
+     * @param start  vertical start of the platform
+     * @param height of the platform
+     * @return the length of the platform
+     */
+    private int generatePlatform(Blocks type, int start, int height) {
+        // Generate the length
+        int length = random(3, MAX_PLATFORM);
+        while (start + length > end) {
+            length--;
+        }
+
+        // Set the platform
+        for (int n = start; n < start + length; n++) {
+            map.set(height + Map.HEIGHT_OFFSET, n, type);
+        }
+
+        // Check if spikes could be inserted
+        if (length > 7 && random(1, 2) == 1) {
+            for (int n = start + random(2, 4); n < start + length - random(2, 4); n++) {
+                map.set(height + Map.HEIGHT_OFFSET, n, Blocks.SPIKE);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Get a random number
+     *
+     * @param min value
+     * @param max value
+     * @return the random number
+     */
+    private int random(int min, int max) {
+        return random.nextInt(min, max + 1);
+    }
+}
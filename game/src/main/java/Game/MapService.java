@@ -0,0 +1,43 @@
+package Game;
+
+import Game.Models.Map;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class MapService {
+
+    /**
+     * The executor that generates the maps (on a daemon thread, so it ends with the game)
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Map generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /**
+     * The map that is generated ahead for the next level
+     */
+    private CompletableFuture<Map> next = generate();
+
+    /**
+     * Generate a map with a random seed
+     *
+     * @return the future map
+     */
+    private CompletableFuture<Map> generate() {
+        return CompletableFuture.supplyAsync(MapGenerator::createMap, executor);
+    }
+
+    /**
+     * Take the map that was generated ahead and start generating the one after it
+     *
+     * @return the future map (usually completed already)
+     */
+    public synchronized CompletableFuture<Map> take() {
+        CompletableFuture<Map> map = next;
+        next = generate();
+        return map;
+    }
+}
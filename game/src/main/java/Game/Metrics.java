@@ -0,0 +1,252 @@
+package Game;
+
+import Game.Render.Palette;
+import Game.Render.Renderer;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+public class Metrics {
+
+    /**
+     * The amount of frames between two updates of the overlay
+     */
+    private static final int OVERLAY_INTERVAL = 30;
+    /**
+     * The width of the overlay including its margin (in world units)
+     */
+    public static final int OVERLAY_WIDTH = 320;
+    /**
+     * The measurements of the threads (to count the allocations)
+     */
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    /**
+     * The amount of frames that are kept
+     */
+    private final int capacity;
+    /**
+     * The time of the frames (in nanoseconds)
+     */
+    private final long[] frameTimes;
+    /**
+     * The time of the phases of the frames (in nanoseconds)
+     */
+    private final long[][] phaseTimes = new long[Phase.values().length][];
+    /**
+     * The amount of simulated ticks per frame
+     */
+    private final long[] ticks;
+    /**
+     * The allocated bytes per frame
+     */
+    private final long[] allocations;
+    /**
+     * The sorted copy of a measurement (to calculate the percentiles)
+     */
+    private final long[] sorted;
+    /**
+     * The lines of the overlay
+     */
+    private final String[] lines = new String[Phase.values().length + 3];
+    /**
+     * The amount of recorded frames
+     */
+    private long frames;
+    /**
+     * The allocated bytes at the start of the current frame
+     */
+    private long allocated;
+
+    /**
+     * Constructor
+     *
+     * @param capacity the amount of frames that are kept
+     */
+    public Metrics(int capacity) {
+        this.capacity = capacity;
+        this.frameTimes = new long[capacity];
+        this.ticks = new long[capacity];
+        this.allocations = new long[capacity];
+        this.sorted = new long[capacity];
+        for (int i = 0; i < phaseTimes.length; i++) phaseTimes[i] = new long[capacity];
+        Arrays.fill(lines, "");
+    }
+
+    /**
+     * Start recording a frame
+     *
+     * @param frameTime the time since the last frame (in nanoseconds)
+     */
+    public void startFrame(long frameTime) {
+        int frame = (int) (frames % capacity);
+        frameTimes[frame] = frameTime;
+        for (long[] times : phaseTimes) times[frame] = 0;
+        allocated = allocatedBytes();
+    }
+
+    /**
+     * Record the end of a phase of the current frame
+     *
+     * @param phase that ended
+     * @param start of the phase (in nanoseconds)
+     * @return the end of the phase (in nanoseconds)
+     */
+    public long lap(Phase phase, long start) {
+        long end = System.nanoTime();
+        phaseTimes[phase.ordinal()][(int) (frames % capacity)] += end - start;
+        return end;
+    }
+
+    /**
+     * Finish recording the current frame
+     *
+     * @param ticks the amount of ticks that were simulated
+     */
+    public void endFrame(int ticks) {
+        int frame = (int) (frames % capacity);
+        this.ticks[frame] = ticks;
+        allocations[frame] = allocated < 0 ? 0 : allocatedBytes() - allocated;
+        frames++;
+        if (frames % OVERLAY_INTERVAL == 0) updateOverlay();
+    }
+
+    /**
+     * Get a percentile of the recorded frames
+     *
+     * @param values     the measurement
+     * @param percentile between 0 and 100
+     * @return the value of the percentile
+     */
+    private long percentile(long[] values, double percentile) {
+        int count = size();
+        if (count == 0) return 0;
+        System.arraycopy(values, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int rank = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sorted[Math.max(0, Math.min(rank, count - 1))];
+    }
+
+    /**
+     * Draw the overlay with the latest statistics
+     *
+     * @param g    the renderer
+     * @param left the horizontal start of the visible area
+     */
+    public void drawOverlay(Renderer g, double left) {
+        g.setFill(Palette.SHADOW);
+        g.fillRect(left + 10, 10, OVERLAY_WIDTH - 20, 20 * lines.length + 10);
+        g.setFill(Palette.WHITE);
+        g.setFont(14);
+        for (int i = 0; i < lines.length; i++) g.fillText(lines[i], left + 160, 30 + 20 * i);
+    }
+
+    /**
+     * @return the height of the overlay including its margin (in world units)
+     */
+    public int getOverlayHeight() {
+        return 20 * lines.length + 30;
+    }
+
+    /**
+     * Write the recorded frames as CSV (one frame per line)
+     *
+     * @param path of the file
+     * @throws IOException if the file can't be written
+     */
+    public void writeCsv(Path path) throws IOException {
+        StringBuilder csv = new StringBuilder("frame,frame_ns");
+        for (Phase phase : Phase.values()) csv.append(',').append(phase.name().toLowerCase(Locale.ROOT)).append("_ns");
+        csv.append(",ticks,allocated_bytes\n");
+
+        // Write the frames from the oldest to the newest
+        for (long i = frames - size(); i < frames; i++) {
+            int frame = (int) (i % capacity);
+            csv.append(i).append(',').append(frameTimes[frame]);
+            for (long[] times : phaseTimes) csv.append(',').append(times[frame]);
+            csv.append(',').append(ticks[frame]).append(',').append(allocations[frame]).append('\n');
+        }
+        Files.writeString(path, csv);
+    }
+
+    /**
+     * Write the percentiles of the recorded frames as JSON
+     *
+     * @param path of the file
+     * @throws IOException if the file can't be written
+     */
+    public void writeJson(Path path) throws IOException {
+        StringBuilder json = new StringBuilder("{\n  \"frames\": ").append(size());
+        appendJson(json, "frame_ns", frameTimes);
+        for (Phase phase : Phase.values()) {
+            appendJson(json, phase.name().toLowerCase(Locale.ROOT) + "_ns", phaseTimes[phase.ordinal()]);
+        }
+        appendJson(json, "ticks", ticks);
+        appendJson(json, "allocated_bytes", allocations);
+        Files.writeString(path, json.append("\n}\n"));
+    }
+
+    /**
+     * Append the percentiles of a measurement to a JSON object
+     */
+    private void appendJson(StringBuilder json, String name, long[] values) {
+        json.append(",\n  \"").append(name).append("\": {\"p50\": ").append(percentile(values, 50))
+                .append(", \"p99\": ").append(percentile(values, 99))
+                .append(", \"max\": ").append(percentile(values, 100)).append('}');
+    }
+
+    /**
+     * Update the lines of the overlay
+     */
+    private void updateOverlay() {
+        lines[0] = String.format("frame p50 %.2f  p99 %.2f  max %.2f ms",
+                percentile(frameTimes, 50) / 1e6, percentile(frameTimes, 99) / 1e6, percentile(frameTimes, 100) / 1e6);
+        for (Phase phase : Phase.values()) {
+            long[] times = phaseTimes[phase.ordinal()];
+            lines[phase.ordinal() + 1] = String.format("%s p50 %.3f  p99 %.3f ms",
+                    phase.name().toLowerCase(Locale.ROOT), percentile(times, 50) / 1e6, percentile(times, 99) / 1e6);
+        }
+        lines[lines.length - 2] = String.format("ticks/frame p50 %d  max %d", percentile(ticks, 50), percentile(ticks, 100));
+        lines[lines.length - 1] = String.format("allocated p50 %d  max %d bytes/frame",
+                percentile(allocations, 50), percentile(allocations, 100));
+    }
+
+    /**
+     * @return the amount of kept frames
+     */
+    private int size() {
+        return (int) Math.min(frames, capacity);
+    }
+
+    /**
+     * @return the bytes allocated by the current thread so far (or -1 if that's not supported)
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * The measured phases of a frame
+     */
+    public enum Phase {
+        /**
+         * Moving the player
+         */
+        SIMULATE,
+        /**
+         * Clearing the canvas and moving the camera
+         */
+        CAMERA,
+        /**
+         * Drawing the map, the player and the overlays
+         */
+        DRAW
+    }
+}
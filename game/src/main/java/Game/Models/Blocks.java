@@ -0,0 +1,128 @@
+package Game.Models;
+
+import Game.Render.Atlas;
+import Game.Render.Palette;
+import Game.Render.Renderer;
+
+public enum Blocks {
+
+    /**
+     * A normal air block
+     */
+    AIR(false, null, ((map, m, n, length, g) -> {
+    })),
+    /**
+     * A solid normal black block
+     */
+    NORMAL(true, Palette.BLACK, Blocks::drawRun),
+    /**
+     * A bounce block that provides the player a jump boost
+     */
+    BOUNCE(true, Palette.DARK_BLUE, Blocks::drawRun),
+    /**
+     * A spike block that kills the player
+     */
+    SPIKE(true, Palette.DARK_RED, Blocks::drawRun);
+
+    /**
+     * The blocks by their ids (cached as values() returns a new copy on every call)
+     */
+    private static final Blocks[] VALUES = values();
+    /**
+     * The amount of blocks
+     */
+    public static final int COUNT = VALUES.length;
+    /**
+     * The solid flags of the blocks by their ids
+     */
+    private static final boolean[] SOLID = new boolean[VALUES.length];
+    /**
+     * The action for drawing a block
+     */
+    private final OnDraw draw;
+    /**
+     * The fill of the block (or null if it isn't drawn)
+     */
+    public final Palette color;
+    /**
+     * True if the block is solid
+     */
+    public final boolean solid;
+
+    static {
+        for (Blocks block : VALUES) SOLID[block.ordinal()] = block.solid;
+    }
+
+    /**
+     * Constructor
+     */
+    Blocks(boolean solid, Palette color, OnDraw draw) {
+        this.solid = solid;
+        this.color = color;
+        this.draw = draw;
+    }
+
+    /**
+     * Get a block by its id
+     *
+     * @param id of the block
+     * @return the block
+     */
+    public static Blocks get(int id) {
+        return VALUES[id];
+    }
+
+    /**
+     * Check if a block is solid
+     *
+     * @param id of the block
+     * @return true if the block is solid
+     */
+    public static boolean isSolid(int id) {
+        return SOLID[id];
+    }
+
+    /**
+     * Draw a horizontal run of blocks (the fill of the block has to be set already)
+     *
+     * @param map    the blocks are on (to look up the neighbors)
+     * @param m      position of the first block on the map
+     * @param n      position of the first block on the map
+     * @param length the amount of blocks in the row
+     * @param g      the renderer
+     */
+    public void draw(Map map, int m, int n, int length, Renderer g) {
+        draw.onDraw(map, m, n, length, g);
+    }
+
+    /**
+     * Draw a run of blocks as one rectangle or from the atlas (neighboring tiles of the same variant share a sprite
+     * that is stretched over them, as a tile that continues left and right looks the same in every column)
+     *
+     * @param map    the blocks are on
+     * @param m      position of the first block on the map
+     * @param n      position of the first block on the map
+     * @param length the amount of blocks in the row
+     * @param g      the renderer
+     */
+    private static void drawRun(Map map, int m, int n, int length, Renderer g) {
+        if (!g.isTextured()) {
+            g.fillRect(Map.toX(n) - 1, Map.toY(m) - 1, length * Map.SIZE + 2, Map.SIZE + 2);
+            return;
+        }
+        int id = map.getId(m, n), end = n + length;
+        for (int start = n, next; start < end; start = next) {
+            int variant = map.getVariant(m, start);
+            next = start + 1;
+            while (next < end && map.getVariant(m, next) == variant) next++;
+            g.drawSprite(Atlas.getSprite(id, variant), Map.toX(start) - 1, Map.toY(m) - 1, (next - start) * Map.SIZE + 2);
+        }
+    }
+
+    /**
+     * Event for drawing a horizontal run of blocks
+     */
+    public interface OnDraw {
+        void onDraw(Map map, int m, int n, int length, Renderer g);
+    }
+}
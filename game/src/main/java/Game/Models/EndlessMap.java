@@ -0,0 +1,169 @@
+package Game.Models;
+
+public class EndlessMap extends Map {
+
+    /**
+     * The amount of columns that are generated at once
+     */
+    public static final int CHUNK = 32;
+    /**
+     * The amount of stored columns minus one (the amount is a power of two)
+     */
+    private final int mask;
+    /**
+     * The columns that are kept ahead of and behind the player
+     */
+    private final int ahead, behind;
+    /**
+     * The amount of columns a chunk may write beyond its end
+     */
+    private final int overhang;
+    /**
+     * The first column that is kept
+     */
+    private volatile int start;
+    /**
+     * The first column that is not generated yet
+     */
+    private volatile int end;
+    /**
+     * The column of the player
+     */
+    private int focus;
+    /**
+     * The first column whose storage was not cleared yet
+     */
+    private int cleared;
+    /**
+     * True if the map was closed
+     */
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param height   of the map
+     * @param ahead    the amount of columns to generate ahead of the player
+     * @param behind   the amount of columns to keep behind the player
+     * @param overhang the amount of columns a chunk may write beyond its end
+     */
+    public EndlessMap(int height, int ahead, int behind, int overhang) {
+        super(Integer.MAX_VALUE, height, capacity(ahead, behind, overhang));
+        this.mask = capacity(ahead, behind, overhang) - 1;
+        this.ahead = ahead;
+        this.behind = behind;
+        this.overhang = overhang;
+        this.cleared = mask + 1;
+    }
+
+    /**
+     * Get the amount of stored columns, so that no kept column shares its storage with a generated one
+     *
+     * @return the amount of columns (a power of two)
+     */
+    private static int capacity(int ahead, int behind, int overhang) {
+        return Integer.highestOneBit(ahead + behind + CHUNK + overhang) << 1;
+    }
+
+    /**
+     * Follow the player: discard the columns far behind and request the columns ahead
+     *
+     * @param x position of the player
+     */
+    public void follow(double x) {
+        int column = toTile(x) + 1;
+        if (column <= focus) return;
+        synchronized (this) {
+            focus = column;
+            start = Math.max(start, column - behind);
+            notifyAll();
+        }
+
+        // Move the spawn point if it was discarded
+        if (toTile(this.x) + 1 < start) moveSpawn();
+    }
+
+    /**
+     * @return the column until which the map should be generated (exclusive)
+     */
+    public synchronized int getDemand() {
+        return (focus + ahead) / CHUNK * CHUNK + CHUNK;
+    }
+
+    /**
+     * Wait until the player needs more columns
+     *
+     * @return the column until which the map should be generated (exclusive)
+     * @throws InterruptedException if the map was closed
+     */
+    public synchronized int awaitDemand() throws InterruptedException {
+        while (!closed && end >= focus + ahead) wait();
+        if (closed) throw new InterruptedException("The map was closed");
+        return getDemand();
+    }
+
+    /**
+     * Clear the storage of the columns that are about to be generated
+     *
+     * @param until the column until which the map will be generated (exclusive)
+     */
+    public void prepare(int until) {
+        for (; cleared < until + overhang; cleared++) {
+            for (int m = 0; m < height; m++) set(m, cleared, Blocks.AIR);
+        }
+    }
+
+    /**
+     * Publish the generated columns to the readers of the map
+     *
+     * @param until the column until which the map was generated (exclusive)
+     */
+    public void publish(int until) {
+        end = until;
+    }
+
+    /**
+     * Stop the generation of the map
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Move the spawn point onto the last normal platform behind the player
+     */
+    private void moveSpawn() {
+        for (int n = Math.min(focus, end - 1) - 1; n > start; n--) {
+            for (int m = 1; m <= HEIGHT + HEIGHT_OFFSET; m++) {
+                if (!get(m, n).solid) continue;
+                if (get(m, n - 1) == Blocks.NORMAL && get(m, n) == Blocks.NORMAL && get(m, n + 1) == Blocks.NORMAL) {
+                    x = toX(n) + SIZE / 2;
+                    y = toY(m) - 2 * SIZE;
+                    return;
+                }
+                break;
+            }
+        }
+    }
+
+    @Override
+    protected boolean contains(int m, int n) {
+        return m >= 0 && m < height && n >= start && n < end;
+    }
+
+    @Override
+    protected int slot(int n) {
+        return n & mask;
+    }
+
+    @Override
+    public int getFirstColumn() {
+        return Math.max(start, 1);
+    }
+
+    @Override
+    public int getLastColumn() {
+        return end;
+    }
+}
@@ -0,0 +1,595 @@
+package Game.Models;
+
+import Game.Player;
+import Game.Render.Atlas;
+import Game.Render.Renderer;
+import Game.Render.RunBatcher;
+
+import java.util.Arrays;
+
+public class Map {
+    /**
+     * The size of a field in world units (the renderers scale world units to pixels)
+     */
+    public static final int SIZE = 30;
+    /**
+     * The actual height of the map
+     */
+    public static final int HEIGHT = 20, HEIGHT_OFFSET = 10;
+    /**
+     * The result of a search that found no solid tile
+     */
+    public static final int NONE = Integer.MIN_VALUE;
+    /**
+     * The size of the map
+     */
+    public int width, height;
+    /**
+     * The ids of the blocks (column by column)
+     */
+    private final byte[] tiles;
+    /**
+     * The autotile variants of the tiles (in the same order as the tiles, see Atlas)
+     */
+    private final byte[] variants;
+    /**
+     * The amount of longs per column in the solid masks
+     */
+    private final int words;
+    /**
+     * The solid tiles of the stored columns as bitmasks (a bit per row)
+     */
+    private final long[] solid;
+    /**
+     * The first solid row from the top and from the bottom of the stored columns (without the border, NONE if empty)
+     */
+    private final int[] tops, bottoms;
+    /**
+     * The spawn point
+     */
+    public int x, y;
+    /**
+     * The horizontal distance to the finish
+     */
+    public int finish;
+    /**
+     * The seed the map was generated from
+     */
+    public long seed;
+
+    /**
+     * Constructor
+     */
+    public Map(int width, int height) {
+        this(width, height, width);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param width   of the map
+     * @param height  of the map
+     * @param columns the amount of columns that are stored
+     */
+    protected Map(int width, int height, int columns) {
+        this.width = width;
+        this.height = height;
+        tiles = new byte[columns * height];
+        variants = new byte[columns * height];
+        Arrays.fill(variants, (byte) (Atlas.VARIANTS - 1));
+        words = (height + 63) >>> 6;
+        solid = new long[columns * words];
+        tops = new int[columns];
+        bottoms = new int[columns];
+        Arrays.fill(tops, NONE);
+        Arrays.fill(bottoms, NONE);
+    }
+
+    /**
+     * Draw the map
+     *
+     * @param g    the renderer
+     * @param runs collects the runs of blocks for the renderer
+     * @param p    the player
+     */
+    public void drawMap(Renderer g, RunBatcher runs, Player p) {
+        // Calculate the render range
+        int startIndex = (int) ((p.x - 0.75 * g.getWidth()) / SIZE);
+        startIndex = Math.max(startIndex, 1);
+        int endIndex = startIndex + (int) (1.5 * g.getWidth() / SIZE);
+
+        // Draw the map
+        drawColumns(g, runs, startIndex, endIndex);
+    }
+
+    /**
+     * Draw a range of columns (block type by block type, merging horizontal runs of equal blocks)
+     *
+     * @param g    the renderer
+     * @param runs collects the runs of blocks for the renderer
+     * @param from the first column (inclusive)
+     * @param to   the last column (exclusive)
+     */
+    public void drawColumns(Renderer g, RunBatcher runs, int from, int to) {
+        from = Math.max(from, getFirstColumn());
+        to = Math.min(to, getLastColumn());
+
+        // Collect the runs of equal blocks row by row
+        for (int m = HEIGHT_OFFSET; m < HEIGHT + HEIGHT_OFFSET; m++) {
+            for (int n = from; n < to; n++) {
+                int id = getId(m, n), start = n;
+                while (n + 1 < to && getId(m, n + 1) == id) n++;
+                if (Blocks.get(id).color != null) runs.add(id, m, start, n - start + 1);
+            }
+        }
+
+        // Draw the runs block type by block type
+        runs.draw(this, g);
+    }
+
+    /**
+     * Find the block on the position
+     *
+     * @param x position
+     * @param y position
+     * @return the right block
+     */
+    public Blocks getBlock(double x, double y) {
+        int m = toTile(y) + HEIGHT_OFFSET, n = toTile(x) + 1;
+        if (!contains(m, n)) return Blocks.NORMAL;
+        return Blocks.get(getId(m, n));
+    }
+
+    /**
+     * Check if the block on the position is solid
+     *
+     * @param x position
+     * @param y position
+     * @return true if the block is solid (or outside of the map)
+     */
+    public boolean isSolid(double x, double y) {
+        int m = toTile(y) + HEIGHT_OFFSET, n = toTile(x) + 1;
+        if (!contains(m, n)) return true;
+        return Blocks.isSolid(getId(m, n));
+    }
+
+    /**
+     * Get the block on a position of the map
+     *
+     * @param m position of the block on the map
+     * @param n position of the block on the map
+     * @return the block
+     */
+    public Blocks get(int m, int n) {
+        return Blocks.get(getId(m, n));
+    }
+
+    /**
+     * Get the id of the block on a position of the map
+     *
+     * @param m position of the block on the map
+     * @param n position of the block on the map
+     * @return the id of the block
+     */
+    public int getId(int m, int n) {
+        return tiles[index(m, n)];
+    }
+
+    /**
+     * Set the block on a position of the map
+     *
+     * @param m     position of the block on the map
+     * @param n     position of the block on the map
+     * @param block to be set
+     */
+    public void set(int m, int n, Blocks block) {
+        tiles[index(m, n)] = (byte) block.ordinal();
+
+        // Update the variants of the tile and its neighbors
+        variants[index(m, n)] = (byte) findVariant(m, n);
+        if (m > 0) variants[index(m - 1, n)] = (byte) findVariant(m - 1, n);
+        if (m < height - 1) variants[index(m + 1, n)] = (byte) findVariant(m + 1, n);
+        if (n > 0) variants[index(m, n - 1)] = (byte) findVariant(m, n - 1);
+        if (n < width - 1) variants[index(m, n + 1)] = (byte) findVariant(m, n + 1);
+
+        // Update the solid mask of the column
+        int word = slot(n) * words + (m >>> 6);
+        if (block.solid) {
+            solid[word] |= 1L << m;
+        } else {
+            solid[word] &= ~(1L << m);
+        }
+
+        // Update the surface index of the column (a removed surface is searched again)
+        if (m < 1 || m >= height - 1) return;
+        int column = slot(n);
+        if (block.solid) {
+            if (tops[column] == NONE || m < tops[column]) tops[column] = m;
+            if (m > bottoms[column]) bottoms[column] = m;
+        } else if (m == tops[column] || m == bottoms[column]) {
+            tops[column] = bottoms[column] = NONE;
+            for (int row = 1; row < height - 1; row++) {
+                if ((solid[column * words + (row >>> 6)] >>> row & 1) == 0) continue;
+                if (tops[column] == NONE) tops[column] = row;
+                bottoms[column] = row;
+            }
+        }
+    }
+
+    /**
+     * Get the autotile variant of a tile
+     *
+     * @param m position of the tile on the map
+     * @param n position of the tile on the map
+     * @return the sides on which the tile has the same block as neighbor (see Atlas)
+     */
+    public int getVariant(int m, int n) {
+        return variants[index(m, n)];
+    }
+
+    /**
+     * Find the autotile variant of a tile from its four neighbors (the map continues beyond its edges)
+     *
+     * @param m position of the tile on the map
+     * @param n position of the tile on the map
+     * @return the sides on which the tile has the same block as neighbor (see Atlas)
+     */
+    protected int findVariant(int m, int n) {
+        int id = getId(m, n), variant = 0;
+        if (m == 0 || getId(m - 1, n) == id) variant |= Atlas.UP;
+        if (n == width - 1 || getId(m, n + 1) == id) variant |= Atlas.RIGHT;
+        if (m == height - 1 || getId(m + 1, n) == id) variant |= Atlas.DOWN;
+        if (n == 0 || getId(m, n - 1) == id) variant |= Atlas.LEFT;
+        return variant;
+    }
+
+    /**
+     * Get the surface of a column
+     *
+     * @param n position of the column on the map
+     * @return the first solid row from the top without the border (NONE if there is none)
+     */
+    public int getTop(int n) {
+        return contains(1, n) ? tops[slot(n)] : NONE;
+    }
+
+    /**
+     * Get the lowest solid tile of a column
+     *
+     * @param n position of the column on the map
+     * @return the first solid row from the bottom without the border (NONE if there is none)
+     */
+    public int getBottom(int n) {
+        return contains(1, n) ? bottoms[slot(n)] : NONE;
+    }
+
+    /**
+     * Get the block on the surface of a column
+     *
+     * @param n position of the column on the map
+     * @return the block (air if the column is empty)
+     */
+    public Blocks getSurface(int n) {
+        int m = getTop(n);
+        return m == NONE ? Blocks.AIR : get(m, n);
+    }
+
+    /**
+     * Check if a row is below all tiles of the columns under a horizontal range (so only the ground is left)
+     *
+     * @param m     position of the row on the map
+     * @param left  side of the range
+     * @param right side of the range
+     * @return true if the row is ground in all columns
+     */
+    public boolean isGround(int m, double left, double right) {
+        for (int n = toTile(left) + 1; n <= toTile(right) + 1; n++) {
+            if (getBottom(n) >= m) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check if a tile is solid
+     *
+     * @param m position of the tile on the map
+     * @param n position of the tile on the map
+     * @return true if the tile is solid (or outside of the map)
+     */
+    public boolean isSolid(int m, int n) {
+        if (!contains(m, n)) return true;
+        return (getSolidMask(n, m >>> 6) >>> m & 1) != 0;
+    }
+
+    /**
+     * Find the first solid tile in a range of rows of a column
+     *
+     * @param n    position of the column on the map
+     * @param from the first row to be checked
+     * @param to   the last row to be checked (may be above or below the first one)
+     * @return the row of the solid tile (tiles outside of the map are solid) or NONE if there is none
+     */
+    public int findSolid(int n, int from, int to) {
+        return findSolid(n, n, from, to);
+    }
+
+    /**
+     * Check if a rectangle of tiles has no solid tile
+     *
+     * @param left   the first column
+     * @param right  the last column
+     * @param top    the first row
+     * @param bottom the last row
+     * @return true if none of the tiles is solid (tiles outside of the map are solid)
+     */
+    public boolean isFree(int left, int right, int top, int bottom) {
+        return findSolid(left, right, top, bottom) == NONE;
+    }
+
+    /**
+     * Find the first row in a range of rows that has a solid tile in any of the columns
+     *
+     * @param left  the first column to be checked
+     * @param right the last column to be checked
+     * @param from  the first row to be checked
+     * @param to    the last row to be checked (may be above or below the first one)
+     * @return the row (tiles outside of the map are solid) or NONE if there is none
+     */
+    private int findSolid(int left, int right, int from, int to) {
+        if (!contains(from, left) || !contains(from, right)) return from;
+        int step = to < from ? -1 : 1, last = Math.max(0, Math.min(to, height - 1));
+        int low = Math.min(from, last), high = Math.max(from, last);
+
+        // Combine the masks of the columns word by word
+        for (int word = from >>> 6; ; word += step) {
+            int start = word << 6;
+            long bits = 0, rows = -1L << Math.max(low - start, 0) & -1L >>> 63 - Math.min(high - start, 63);
+            for (int n = left; n <= right; n++) bits |= getSolidMask(n, word);
+            bits &= rows;
+            if (bits != 0) return start + (step > 0 ? Long.numberOfTrailingZeros(bits) : 63 - Long.numberOfLeadingZeros(bits));
+            if (word == last >>> 6) break;
+        }
+
+        // Check if the range leaves the map
+        if (to != last) return step > 0 ? height : -1;
+        return NONE;
+    }
+
+    /**
+     * Find the first solid tile a circle touches when moving along one axis (the box the circle sweeps finds the
+     * candidate tiles with the solid masks, the nearest point of each candidate decides if and where it's touched)
+     *
+     * @param x        position of the center
+     * @param y        position of the center
+     * @param radius   of the circle
+     * @param distance the movement along the axis (negative for left or up)
+     * @param vertical true for a movement along the rows, false for one along the columns
+     * @param hit      receives the position of the touched tile (m and n, tiles outside of the map are solid), may be null
+     * @return the movement until the circle touches the tile (with the sign of the distance) or NaN if there is none
+     */
+    public double sweepCircle(double x, double y, double radius, double distance, boolean vertical, int[] hit) {
+        if (distance == 0) return Double.NaN;
+
+        // Check the box the circle sweeps for any solid tile
+        double dx = vertical ? 0 : distance, dy = vertical ? distance : 0;
+        int n0 = toTile(x - radius + Math.min(dx, 0)) + 1, n1 = toTile(x + radius + Math.max(dx, 0)) + 1;
+        int m0 = toTile(y - radius + Math.min(dy, 0)) + HEIGHT_OFFSET, m1 = toTile(y + radius + Math.max(dy, 0)) + HEIGHT_OFFSET;
+        if (findSolid(n0, n1, m0, m1) == NONE) return Double.NaN;
+
+        // Find the solid tile ahead of the center that the circle touches first
+        int sign = distance > 0 ? 1 : -1;
+        double along = vertical ? y : x, across = vertical ? x : y, best = Double.POSITIVE_INFINITY;
+        for (int n = n0; n <= n1; n++) {
+            for (int m = m0; m <= m1; m++) {
+                // Skip to the next solid row of the mask (tiles outside of the map are solid)
+                if (contains(m, n)) {
+                    long bits = getSolidMask(n, m >>> 6) >>> m;
+                    if (bits == 0) {
+                        m = Math.min(m | 63, height - 1);
+                        continue;
+                    }
+                    m += Long.numberOfTrailingZeros(bits);
+                    if (m > m1) break;
+                }
+
+                // Measure the distance to the near side of the tile and the gap beside the line of the movement
+                double low = vertical ? toY(m) : toX(n), side = vertical ? toX(n) : toY(m);
+                double ahead = sign > 0 ? low - along : along - low - SIZE;
+                double gap = Math.max(Math.max(side - across, across - side - SIZE), 0);
+                if (ahead < 0 || gap >= radius) continue;
+
+                // The circle touches the side of the tile or, if the tile is off to the side, its corner
+                double contact = Math.max(ahead - Math.sqrt(radius * radius - gap * gap), 0);
+                if (contact > Math.abs(distance) || contact >= best) continue;
+                best = contact;
+                if (hit == null) continue;
+                hit[0] = m;
+                hit[1] = n;
+            }
+        }
+        return best == Double.POSITIVE_INFINITY ? Double.NaN : sign * best;
+    }
+
+    /**
+     * Find the solid tiles that overlap a rectangle
+     *
+     * @param left   side of the rectangle
+     * @param top    side of the rectangle
+     * @param right  side of the rectangle
+     * @param bottom side of the rectangle
+     * @param tiles  the positions of the found tiles (m and n of each tile one after another)
+     * @return the amount of found tiles (at most half the length of the array)
+     */
+    public int findSolidTiles(double left, double top, double right, double bottom, int[] tiles) {
+        int m0 = toTile(top) + HEIGHT_OFFSET, m1 = toTile(bottom) + HEIGHT_OFFSET, count = 0;
+        for (int n = toTile(left) + 1; n <= toTile(right) + 1; n++) {
+            for (int m = m0; m <= m1; m++) {
+                // Skip to the next solid row of the mask (tiles outside of the map are solid)
+                if (contains(m, n)) {
+                    long bits = getSolidMask(n, m >>> 6) >>> m;
+                    if (bits == 0) {
+                        m = Math.min(m | 63, height - 1);
+                        continue;
+                    }
+                    m += Long.numberOfTrailingZeros(bits);
+                    if (m > m1) break;
+                }
+                if (2 * count == tiles.length) return count;
+                tiles[2 * count] = m;
+                tiles[2 * count + 1] = n;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Find the solid tiles that overlap a circle
+     *
+     * @param x      position of the center
+     * @param y      position of the center
+     * @param radius of the circle
+     * @param tiles  the positions of the found tiles (m and n of each tile one after another)
+     * @return the amount of found tiles (at most half the length of the array)
+     */
+    public int findSolidTiles(double x, double y, double radius, int[] tiles) {
+        int found = findSolidTiles(x - radius, y - radius, x + radius, y + radius, tiles), count = 0;
+        for (int i = 0; i < found; i++) {
+            int m = tiles[2 * i], n = tiles[2 * i + 1];
+
+            // Keep the tile if its nearest point is inside of the circle
+            double dx = x - Math.max(toX(n), Math.min(x, toX(n) + SIZE));
+            double dy = y - Math.max(toY(m), Math.min(y, toY(m) + SIZE));
+            if (dx * dx + dy * dy >= radius * radius) continue;
+            tiles[2 * count] = m;
+            tiles[2 * count + 1] = n;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Get the block of a tile that may be outside of the map
+     *
+     * @param m position of the tile on the map
+     * @param n position of the tile on the map
+     * @return the block (normal outside of the map)
+     */
+    public Blocks getTile(int m, int n) {
+        return contains(m, n) ? get(m, n) : Blocks.NORMAL;
+    }
+
+    /**
+     * Get a part of the solid mask of a column
+     *
+     * @param n    position of the column on the map
+     * @param word the index of the long (the rows 64 * word to 64 * word + 63)
+     * @return the bits of the solid rows
+     */
+    protected long getSolidMask(int n, int word) {
+        return solid[slot(n) * words + word];
+    }
+
+    /**
+     * Check if a position is on the map
+     *
+     * @param m position on the map
+     * @param n position on the map
+     * @return true if the position is on the map
+     */
+    protected boolean contains(int m, int n) {
+        return m >= 0 && m < height && n >= 0 && n < width;
+    }
+
+    /**
+     * Get the index of a position in the stored tiles
+     *
+     * @param m position on the map
+     * @param n position on the map
+     * @return the index of the tile
+     */
+    protected int index(int m, int n) {
+        return slot(n) * height + m;
+    }
+
+    /**
+     * Get the index of a column in the stored columns
+     *
+     * @param n position of the column on the map
+     * @return the index of the stored column
+     */
+    protected int slot(int n) {
+        return n;
+    }
+
+    /**
+     * @return the first column that can be drawn (inclusive)
+     */
+    public int getFirstColumn() {
+        return 1;
+    }
+
+    /**
+     * @return the last column that can be drawn (exclusive)
+     */
+    public int getLastColumn() {
+        return width - 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Map)) return false;
+        Map other = (Map) o;
+        if (width != other.width || height != other.height || x != other.x || y != other.y || finish != other.finish) {
+            return false;
+        }
+
+        // Compare the blocks (the maps may store them differently)
+        for (int n = 0; n < width; n++) {
+            for (int m = 0; m < height; m++) {
+                if (getId(m, n) != other.getId(m, n)) return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = width;
+        for (int n = 0; n < width; n++) {
+            for (int m = 0; m < height; m++) hash = 31 * hash + getId(m, n);
+        }
+        return hash;
+    }
+
+    /**
+     * Get the tile of a position (rounded down, so negative positions don't share a tile with positive ones)
+     *
+     * @param position horizontal or vertical (in world units)
+     * @return the index of the tile relative to the playable area
+     */
+    public static int toTile(double position) {
+        return (int) Math.floor(position / SIZE);
+    }
+
+    /**
+     * Get the horizontal position of a column
+     *
+     * @param n position of the column on the map
+     * @return the horizontal position (in world units)
+     */
+    public static int toX(int n) {
+        return (n - 1) * SIZE;
+    }
+
+    /**
+     * Get the vertical position of a row
+     *
+     * @param m position of the row on the map
+     * @return the vertical position (in world units)
+     */
+    public static int toY(int m) {
+        return (m - HEIGHT_OFFSET) * SIZE;
+    }
+}
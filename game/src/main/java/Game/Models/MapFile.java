@@ -0,0 +1,195 @@
+package Game.Models;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class MapFile {
+
+    /**
+     * The first bytes of a map file ("JNRM")
+     */
+    public static final int MAGIC = 0x4A4E524D;
+    /**
+     * The version of the format
+     */
+    public static final int VERSION = 3;
+    /**
+     * The size of the header (the tiles start aligned behind it)
+     */
+    static final int HEADER = 64;
+    /**
+     * The bits per tile and the tiles per byte
+     */
+    static final int BITS = 2, TILES_PER_BYTE = 8 / BITS;
+    /**
+     * The bytes per column in the surface index (the top and the bottom row as shorts, -1 if the column is empty)
+     */
+    static final int SURFACE_BYTES = 4;
+    /**
+     * The largest map file (the tiles are addressed with int offsets into one mapped buffer)
+     */
+    static final long MAX_SIZE = Integer.MAX_VALUE;
+    /**
+     * The size of the buffer a map file is written through (in bytes)
+     */
+    private static final int WRITE_BUFFER = 64 * 1024;
+
+    /**
+     * Utility class
+     */
+    private MapFile() {
+    }
+
+    /**
+     * Get the amount of bytes a packed column takes
+     *
+     * @param height of the map
+     * @return the bytes per column
+     */
+    static int columnBytes(int height) {
+        return (height + TILES_PER_BYTE - 1) / TILES_PER_BYTE;
+    }
+
+    /**
+     * Get the amount of longs per column in the solid masks
+     *
+     * @param height of the map
+     * @return the longs per column
+     */
+    static int maskWords(int height) {
+        return (height + 63) >>> 6;
+    }
+
+    /**
+     * Get the offset of the solid masks in a map file (behind the surface index, aligned to longs)
+     *
+     * @param width  of the map
+     * @param height of the map
+     * @return the offset of the masks
+     */
+    static long masksOffset(int width, int height) {
+        return (HEADER + (long) width * (columnBytes(height) + SURFACE_BYTES) + Long.BYTES - 1) & -Long.BYTES;
+    }
+
+    /**
+     * Get the size of a map file
+     *
+     * @param width  of the map
+     * @param height of the map
+     * @return the bytes of the file
+     */
+    static long fileSize(int width, int height) {
+        return masksOffset(width, height) + (long) width * maskWords(height) * Long.BYTES;
+    }
+
+    /**
+     * Write a map (the header, the columns with two bits per tile, the surface index and the solid masks of the
+     * columns), streamed through a small buffer
+     *
+     * @param map  to be written
+     * @param path of the file
+     * @throws IOException if the file can't be written
+     */
+    public static void write(Map map, Path path) throws IOException {
+        if (map.height > Short.MAX_VALUE) throw new IllegalArgumentException("The map is too high: " + map.height);
+        long size = fileSize(map.width, map.height);
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("The map is too large for a map file: " + size + " bytes (at most " + MAX_SIZE + ")");
+        }
+        int columnBytes = columnBytes(map.height), words = maskWords(map.height);
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(WRITE_BUFFER, HEADER + columnBytes + words * Long.BYTES));
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            // Write the header
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(map.width).putInt(map.height)
+                    .putInt(map.x).putInt(map.y).putInt(map.finish).putLong(map.seed);
+            buffer.position(HEADER);
+
+            // Pack the columns
+            for (int n = 0; n < map.width; n++) {
+                if (buffer.remaining() < columnBytes) flush(channel, buffer);
+                int offset = buffer.position();
+                for (int m = 0; m < map.height; m++) {
+                    int id = map.getId(m, n);
+                    if (id >>> BITS != 0) throw new IllegalStateException("Block " + id + " doesn't fit into " + BITS + " bits");
+                    int index = offset + m / TILES_PER_BYTE;
+                    buffer.put(index, (byte) (buffer.get(index) | id << m % TILES_PER_BYTE * BITS));
+                }
+                buffer.position(offset + columnBytes);
+            }
+
+            // Write the surface index behind the columns
+            for (int n = 0; n < map.width; n++) {
+                if (buffer.remaining() < SURFACE_BYTES) flush(channel, buffer);
+                int top = map.getTop(n), bottom = map.getBottom(n);
+                buffer.putShort((short) (top == Map.NONE ? -1 : top));
+                buffer.putShort((short) (bottom == Map.NONE ? -1 : bottom));
+            }
+
+            // Write the solid masks behind the surface index (aligned to longs)
+            int padding = (int) (masksOffset(map.width, map.height) - HEADER - (long) map.width * (columnBytes + SURFACE_BYTES));
+            if (buffer.remaining() < padding) flush(channel, buffer);
+            buffer.position(buffer.position() + padding);
+            for (int n = 0; n < map.width; n++) {
+                if (buffer.remaining() < words * Long.BYTES) flush(channel, buffer);
+                for (int word = 0; word < words; word++) buffer.putLong(map.getSolidMask(n, word));
+            }
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Write the filled part of a buffer to a file and clear the buffer (zeroed, the columns are packed into it)
+     *
+     * @param channel of the file
+     * @param buffer  to be written
+     * @throws IOException if the file can't be written
+     */
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        Arrays.fill(buffer.array(), 0, buffer.limit(), (byte) 0);
+        buffer.clear();
+    }
+
+    /**
+     * Load a map by mapping the file into memory (the tiles are read from the file and not copied)
+     *
+     * @param path of the file
+     * @return the map
+     * @throws IOException if the file can't be read or isn't a map
+     */
+    public static MappedMap load(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER) throw new IOException("Not a map file: " + path);
+            if (channel.size() > MAX_SIZE) {
+                throw new IOException("The map file is too large: " + channel.size() + " bytes (at most " + MAX_SIZE + "): " + path);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        // Check the header
+        if (buffer.getInt(0) != MAGIC) throw new IOException("Not a map file: " + path);
+        int version = buffer.getInt(4);
+        if (version != VERSION) throw new IOException("Unsupported map file version " + version + ": " + path);
+        int width = buffer.getInt(8), height = buffer.getInt(12);
+        if (width < 0 || height < 0 || buffer.capacity() < fileSize(width, height)) {
+            throw new IOException("Truncated map file: " + path);
+        }
+
+        // Create the map on top of the file
+        MappedMap map = new MappedMap(width, height, buffer);
+        map.x = buffer.getInt(16);
+        map.y = buffer.getInt(20);
+        map.finish = buffer.getInt(24);
+        map.seed = buffer.getLong(28);
+        return map;
+    }
+}
@@ -0,0 +1,97 @@
+package Game.Models;
+
+import java.nio.ByteBuffer;
+
+public class MappedMap extends Map {
+
+    /**
+     * The mapped file
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The amount of bytes of a packed column
+     */
+    private final int columnBytes;
+    /**
+     * The offset of the surface index in the file
+     */
+    private final int surfaces;
+    /**
+     * The offset of the solid masks in the file and the amount of longs per column
+     */
+    private final int masks, words;
+    /**
+     * The copy of the map in memory that replaces the file after the first change (null while unchanged)
+     */
+    private Map copy;
+
+    /**
+     * Constructor
+     *
+     * @param width  of the map
+     * @param height of the map
+     * @param buffer the mapped file
+     */
+    MappedMap(int width, int height, ByteBuffer buffer) {
+        super(width, height, 0);
+        this.buffer = buffer;
+        this.columnBytes = MapFile.columnBytes(height);
+        this.surfaces = MapFile.HEADER + width * columnBytes;
+        this.masks = (int) MapFile.masksOffset(width, height);
+        this.words = MapFile.maskWords(height);
+    }
+
+    @Override
+    public int getId(int m, int n) {
+        if (copy != null) return copy.getId(m, n);
+        int packed = buffer.get(MapFile.HEADER + n * columnBytes + m / MapFile.TILES_PER_BYTE);
+        return packed >>> m % MapFile.TILES_PER_BYTE * MapFile.BITS & (1 << MapFile.BITS) - 1;
+    }
+
+    @Override
+    public int getVariant(int m, int n) {
+        if (copy != null) return copy.getVariant(m, n);
+        return findVariant(m, n);
+    }
+
+    @Override
+    protected long getSolidMask(int n, int word) {
+        if (copy != null) return copy.getSolidMask(n, word);
+        return buffer.getLong(masks + (n * words + word) * Long.BYTES);
+    }
+
+    @Override
+    public int getTop(int n) {
+        if (copy != null) return copy.getTop(n);
+        if (!contains(1, n)) return NONE;
+        short top = buffer.getShort(surfaces + n * MapFile.SURFACE_BYTES);
+        return top < 0 ? NONE : top;
+    }
+
+    @Override
+    public int getBottom(int n) {
+        if (copy != null) return copy.getBottom(n);
+        if (!contains(1, n)) return NONE;
+        short bottom = buffer.getShort(surfaces + n * MapFile.SURFACE_BYTES + 2);
+        return bottom < 0 ? NONE : bottom;
+    }
+
+    /**
+     * Set the block on a position of the map (the file stays unchanged, the first change copies the map into memory)
+     *
+     * @param m     position of the block on the map
+     * @param n     position of the block on the map
+     * @param block to be set
+     */
+    @Override
+    public void set(int m, int n, Blocks block) {
+        if (copy == null) {
+            Map copy = new Map(width, height);
+            for (int column = 0; column < width; column++) {
+                for (int row = 0; row < height; row++) copy.set(row, column, get(row, column));
+            }
+            this.copy = copy;
+        }
+        copy.set(m, n, block);
+    }
+}
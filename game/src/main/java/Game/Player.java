@@ -0,0 +1,375 @@
+package Game;
+
+import Game.Models.Blocks;
+import Game.Models.Map;
+import Game.Render.Palette;
+import Game.Render.Renderer;
+import Game.Render.Screen;
+
+public class Player {
+    /**
+     * The gravity
+     */
+    public static final double GRAVITY = 2000;
+    /**
+     * The acceleration and the resistance sideways
+     */
+    public static final double ACCELERATION = 1200, RESISTANCE = 400;
+    /**
+     * The maximum velocity sideways
+     */
+    public static final double MAX_VELOCITY = 500;
+    /**
+     * The growth of the player when dying (in world units per second) and the radius to respawn at
+     */
+    public static final double DEATH_GROWTH = 600, DEATH_RADIUS = 1000;
+    /**
+     * The upward speed of a jump and of a boost jump, and the speed of a boost sideways
+     */
+    public static final double JUMP_VELOCITY = 900, BOOST_VELOCITY = 1300, BOOST_SIDE_VELOCITY = 800;
+    /**
+     * The distance the player keeps to a block it collided with
+     */
+    private static final double CONTACT_OFFSET = 1e-6;
+    /**
+     * The map the player is on
+     */
+    private final Map map;
+    /**
+     * The position of the tile the player collided with (m and n)
+     */
+    private final int[] hit = new int[2];
+    /**
+     * The position of the player
+     */
+    public double x, y;
+    /**
+     * The position of the player on the last tick
+     */
+    private double lastX, lastY;
+    /**
+     * The interpolated position of the player that is drawn
+     */
+    public double renderX, renderY;
+    /**
+     * The measurements of the player
+     */
+    public double radius;
+    /**
+     * The game state
+     */
+    public boolean dead, won;
+    /**
+     * True if the death of the player is animated
+     */
+    private boolean dying;
+    /**
+     * The current speed of the player
+     */
+    private double vx, vy;
+    /**
+     * The current acceleration of the player
+     */
+    private double ax;
+    /**
+     * True if the player is jumping
+     */
+    private boolean jumping = true;
+    /**
+     * The current rotation of the player
+     */
+    private double rotation = 0;
+
+    /**
+     * Constructor
+     */
+    public Player(Map map) {
+        this.map = map;
+        spawn();
+    }
+
+    /**
+     * Spawn the player
+     */
+    public void spawn() {
+        radius = (double) Map.SIZE / 2;
+        dead = false;
+        dying = false;
+        won = false;
+        x = map.x;
+        y = map.y;
+        lastX = renderX = x;
+        lastY = renderY = y;
+    }
+
+    /**
+     * Start a normal jump
+     */
+    public void jump() {
+        if (!jumping && !Double.isNaN(map.sweepCircle(x, y, radius, 1, true, null))) {
+            jumping = true;
+            vy = -JUMP_VELOCITY;
+        }
+    }
+
+    /**
+     * Start a boost jump
+     *
+     * @param sign the direction
+     */
+    public void boostJump(int sign) {
+        jumping = true;
+        vy = sign * BOOST_VELOCITY;
+    }
+
+    /**
+     * Start a boost jump sideways
+     *
+     * @param sign the direction
+     */
+    public void boostSide(int sign) {
+        vx = sign * BOOST_SIDE_VELOCITY;
+    }
+
+    /**
+     * Start the acceleration for the player
+     */
+    public void accelerate(double acceleration) {
+        ax = acceleration;
+    }
+
+    /**
+     * Move the player
+     *
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    public void move(double deltaTime) {
+        // Remember the last position
+        lastX = x;
+        lastY = y;
+
+        // Check if the player is still alive
+        if (dead) {
+            if (dying) animateDeath(deltaTime);
+            return;
+        }
+
+        // Move the player horizontally
+        double dx = vx * deltaTime;
+        double moved = map.sweepCircle(x, y, radius, dx, false, hit);
+        if (Double.isNaN(moved)) {
+            x += dx;
+        } else if (dx > 0) {
+            handleRightCollision(moved);
+        } else {
+            handleLeftCollision(moved);
+        }
+
+        // Move the player vertically
+        double dy = vy * deltaTime;
+        moved = map.sweepCircle(x, y, radius, dy, true, hit);
+        if (Double.isNaN(moved)) {
+            y += dy;
+        } else if (dy > 0) {
+            handleBottomCollision(moved);
+        } else {
+            handleTopCollision(moved);
+        }
+
+        // Check if the player won
+        if (map.finish < x) {
+            won = true;
+            die(false, false);
+        }
+
+        // Calculate the current rotation of the player
+        double angularVelocity = vx / radius;
+        rotation += angularVelocity * deltaTime;
+
+        // Respect the gravity
+        vy += GRAVITY * deltaTime;
+
+        // Respect the current movement and the resistance
+        double resistance = vx < 0 ? RESISTANCE : -RESISTANCE;
+        vx += resistance * deltaTime;
+        if (Math.abs(vx) > MAX_VELOCITY) return;
+        vx += ax * deltaTime;
+    }
+
+    /**
+     * Interpolate the drawn position between the last two ticks
+     *
+     * @param alpha the progress towards the current tick (0 to 1)
+     */
+    public void interpolate(double alpha) {
+        renderX = lastX + (x - lastX) * alpha;
+        renderY = lastY + (y - lastY) * alpha;
+    }
+
+    /**
+     * Hash the simulated state of the player (to detect a replay that diverges from the recording)
+     *
+     * @return the hash of the position, the speed, the acceleration, the rotation, the size and the flags
+     */
+    public long hashState() {
+        long hash = mix(mix(mix(mix(17, x), y), vx), vy);
+        hash = mix(mix(mix(hash, ax), rotation), radius);
+        return hash * 0x9E3779B97F4A7C15L + ((dead ? 1 : 0) | (won ? 2 : 0) | (dying ? 4 : 0) | (jumping ? 8 : 0));
+    }
+
+    /**
+     * Mix a value into a hash
+     *
+     * @param hash  so far
+     * @param value to be mixed in (bit by bit)
+     * @return the new hash
+     */
+    private static long mix(long hash, double value) {
+        return hash * 0x9E3779B97F4A7C15L + Double.doubleToLongBits(value);
+    }
+
+    /**
+     * Handle a collision
+     *
+     * @param moved the movement until the player touched the block above
+     */
+    private void handleTopCollision(double moved) {
+        // Reset the speed and correct the position
+        vy = 0;
+        y += moved + CONTACT_OFFSET;
+
+        // Check for block collisions
+        Blocks block = map.getTile(hit[0], hit[1]);
+        if (block.equals(Blocks.BOUNCE)) {
+            boostJump(1);
+        } else if (block.equals(Blocks.SPIKE)) {
+            die(true, true);
+        }
+    }
+
+    /**
+     * Handle a collision
+     *
+     * @param moved the movement until the player touched the block on the right
+     */
+    private void handleRightCollision(double moved) {
+        // Reset the speed and correct the position
+        vx = 0;
+        x += moved - CONTACT_OFFSET;
+
+        // Check for block collisions
+        Blocks block = map.getTile(hit[0], hit[1]);
+        if (block.equals(Blocks.BOUNCE)) {
+            boostSide(-1);
+        } else if (block.equals(Blocks.SPIKE)) {
+            die(true, true);
+        }
+    }
+
+    /**
+     * Handle a collision
+     *
+     * @param moved the movement until the player touched the block below
+     */
+    private void handleBottomCollision(double moved) {
+        // Reset the speed and the jumping flag
+        jumping = false;
+        vy = 0;
+
+        // Check if the player hit the ground
+        if (map.isGround(hit[0], x - radius, x + radius)) {
+            die(false, true);
+            return;
+        }
+
+        // Correct the position
+        y += moved - CONTACT_OFFSET;
+
+        // Check for block collisions
+        Blocks block = map.getTile(hit[0], hit[1]);
+        if (block.equals(Blocks.BOUNCE)) {
+            boostJump(-1);
+        } else if (block.equals(Blocks.SPIKE)) {
+            die(true, true);
+        }
+    }
+
+    /**
+     * Handle a collision
+     *
+     * @param moved the movement until the player touched the block on the left
+     */
+    private void handleLeftCollision(double moved) {
+        // Reset the speed and correct the position
+        vx = 0;
+        x += moved + CONTACT_OFFSET;
+
+        // Check for block collisions
+        Blocks block = map.getTile(hit[0], hit[1]);
+        if (block.equals(Blocks.BOUNCE)) {
+            boostSide(1);
+        } else if (block.equals(Blocks.SPIKE)) {
+            die(true, true);
+        }
+    }
+
+    /**
+     * Let the player die
+     *
+     * @param animation true if the player should be animated on death
+     * @param respawn   true if the player shall respawn automatically
+     */
+    private void die(boolean animation, boolean respawn) {
+        // Reset the player's speed and acceleration
+        vx = 0;
+        vy = 0;
+        ax = 0;
+        dead = true;
+
+        // Respawn the player
+        if (!respawn) return;
+        if (animation) {
+            dying = true;
+        } else {
+            spawn();
+        }
+    }
+
+    /**
+     * Let the player grow until it respawns
+     *
+     * @param deltaTime the time to simulate (in seconds)
+     */
+    private void animateDeath(double deltaTime) {
+        if (radius < DEATH_RADIUS) {
+            radius += DEATH_GROWTH * deltaTime;
+        } else {
+            spawn();
+        }
+    }
+
+    /**
+     * Draw the player
+     *
+     * @param g the renderer
+     */
+    public void drawPlayer(Renderer g) {
+        double x = renderX, y = renderY;
+
+        // Draw the player
+        g.setFill(Palette.DARK_ORANGE);
+        g.fillOval(x - radius, (int) (y - radius), 2 * radius, 2 * radius);
+
+        // Check if the player won
+        if (won) g.drawScreen(Screen.VICTORY, x);
+
+        // Check if the player's dead
+        if (dead) return;
+
+        // Draw the smaller circle
+        double cx = x - 8 * Math.cos(rotation), cy = (int) y - 8 * Math.sin(rotation);
+        double radius = 5;
+        g.setFill(Palette.BLACK);
+        g.fillOval(cx - radius, cy - radius, 2 * radius, 2 * radius);
+    }
+}
@@ -0,0 +1,119 @@
+package Game.Render;
+
+import Game.Models.Blocks;
+import Game.Models.Map;
+
+public class Atlas {
+
+    /**
+     * The bits of the variant of a tile (set if the neighbor on that side is the same block)
+     */
+    public static final int UP = 1, RIGHT = 2, DOWN = 4, LEFT = 8;
+    /**
+     * The amount of variants per block
+     */
+    public static final int VARIANTS = 16;
+    /**
+     * The size of a sprite (a tile with a margin of one pixel, as blocks overlap their neighbors)
+     */
+    public static final int SPRITE = Map.SIZE + 2;
+    /**
+     * The size of the sprite sheet (a row of variants per block)
+     */
+    public static final int WIDTH = VARIANTS * SPRITE, HEIGHT = Blocks.COUNT * SPRITE;
+    /**
+     * The width of the bevel on the open sides of a tile (in pixels)
+     */
+    private static final int BEVEL = 3;
+    /**
+     * The colors of the sprite sheet (row by row, ARGB, created on first use)
+     */
+    private static int[] pixels;
+
+    /**
+     * Utility class
+     */
+    private Atlas() {
+    }
+
+    /**
+     * Get the sprite of a block
+     *
+     * @param id      of the block
+     * @param variant of the tile
+     * @return the index of the sprite
+     */
+    public static int getSprite(int id, int variant) {
+        return id * VARIANTS + variant;
+    }
+
+    /**
+     * @param sprite the index of the sprite
+     * @return the horizontal position of the sprite in the sheet
+     */
+    public static int getX(int sprite) {
+        return sprite % VARIANTS * SPRITE;
+    }
+
+    /**
+     * @param sprite the index of the sprite
+     * @return the vertical position of the sprite in the sheet
+     */
+    public static int getY(int sprite) {
+        return sprite / VARIANTS * SPRITE;
+    }
+
+    /**
+     * Get the sprite sheet (the sprites are generated from the palette once)
+     *
+     * @return the colors of the sheet (row by row, ARGB, not to be modified)
+     */
+    public static synchronized int[] getPixels() {
+        if (pixels != null) return pixels;
+        pixels = new int[WIDTH * HEIGHT];
+        for (int id = 0; id < Blocks.COUNT; id++) {
+            Palette color = Blocks.get(id).color;
+            if (color == null) continue;
+            for (int variant = 0; variant < VARIANTS; variant++) drawSprite(getSprite(id, variant), color.argb, variant);
+        }
+        return pixels;
+    }
+
+    /**
+     * Draw a sprite: a vertical gradient with a light bevel on the open top and left sides and a dark one on the open
+     * bottom and right sides (a tile that is closed left and right is the same in every column, so it can be stretched)
+     *
+     * @param sprite  the index of the sprite
+     * @param argb    the color of the block
+     * @param variant of the tile
+     */
+    private static void drawSprite(int sprite, int argb, int variant) {
+        for (int y = 0; y < SPRITE; y++) {
+            for (int x = 0; x < SPRITE; x++) {
+                double shade = 0.15 - 0.3 * y / (SPRITE - 1);
+                if ((variant & LEFT) == 0 && x < BEVEL) shade = 0.3;
+                if ((variant & RIGHT) == 0 && x >= SPRITE - BEVEL) shade = -0.3;
+                if ((variant & UP) == 0 && y < BEVEL) shade = 0.45;
+                if ((variant & DOWN) == 0 && y >= SPRITE - BEVEL) shade = -0.45;
+                pixels[(getY(sprite) + y) * WIDTH + getX(sprite) + x] = shade(argb, shade);
+            }
+        }
+    }
+
+    /**
+     * Lighten or darken a color
+     *
+     * @param argb  the color
+     * @param shade the amount to lighten (positive) or to darken (negative) the color (-1 to 1)
+     * @return the shaded color
+     */
+    private static int shade(int argb, double shade) {
+        int result = argb & 0xFF000000;
+        for (int shift = 0; shift < 24; shift += 8) {
+            int channel = argb >> shift & 0xFF;
+            channel += (int) Math.round(shade > 0 ? (255 - channel) * shade : channel * shade);
+            result |= channel << shift;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,256 @@
+package Game.Render;
+
+import Game.MapGenerator;
+import Game.Models.Blocks;
+import Game.Models.Map;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class Minimap {
+
+    /**
+     * The amount of levels and the tiles per pixel of a level along each axis compared to the level before
+     */
+    public static final int LEVELS = 2, REDUCTION = 4;
+    /**
+     * The maximum scale the overview is drawn with
+     */
+    public static final int MAX_SCALE = 2;
+    /**
+     * The margin around the overview (in world units)
+     */
+    public static final int MARGIN = 10;
+    /**
+     * The map of the overview
+     */
+    private final Map map;
+    /**
+     * The first column of the overview
+     */
+    private final int firstColumn;
+    /**
+     * The size of the levels (in pixels)
+     */
+    private final int[] widths = new int[LEVELS], heights = new int[LEVELS];
+    /**
+     * The block ids of the pixels of the levels (row by row)
+     */
+    private final byte[][] ids = new byte[LEVELS][];
+    /**
+     * The colors of the pixels of the levels (row by row, ARGB)
+     */
+    private final int[][] pixels = new int[LEVELS][];
+    /**
+     * The range of columns of the first level that changed since the renderer took the pixels (empty if from >= to)
+     */
+    private int dirtyFrom, dirtyTo;
+    /**
+     * The level and the scale of the overview
+     */
+    private int level, scale = 1;
+
+    /**
+     * Constructor (builds all levels once)
+     *
+     * @param map of the overview (a map with a finite width)
+     */
+    public Minimap(Map map) {
+        this.map = map;
+        this.firstColumn = map.getFirstColumn();
+
+        // Allocate the levels (a pixel of a level covers REDUCTION x REDUCTION pixels of the level before)
+        int width = map.getLastColumn() - firstColumn, height = Map.HEIGHT;
+        for (int i = 0; i < LEVELS; i++) {
+            widths[i] = Math.max(width, 1);
+            heights[i] = Math.max(height, 1);
+            ids[i] = new byte[widths[i] * heights[i]];
+            pixels[i] = new int[widths[i] * heights[i]];
+            width = (width + REDUCTION - 1) / REDUCTION;
+            height = (height + REDUCTION - 1) / REDUCTION;
+        }
+        update(firstColumn, map.getLastColumn());
+    }
+
+    /**
+     * Update the pixels of changed columns in all levels
+     *
+     * @param from the first column that changed (inclusive)
+     * @param to   the last column that changed (exclusive)
+     */
+    public void update(int from, int to) {
+        from = Math.max(from, firstColumn) - firstColumn;
+        to = Math.min(to, firstColumn + widths[0]) - firstColumn;
+        if (from >= to) return;
+
+        // Copy the tiles into the first level
+        for (int y = 0; y < heights[0]; y++) {
+            for (int x = from; x < to; x++) setPixel(0, x, y, map.getId(y + Map.HEIGHT_OFFSET, x + firstColumn));
+        }
+
+        // Reduce each level into the next one (a pixel shows the most important block of its area)
+        int first = from, last = to;
+        for (int i = 1; i < LEVELS; i++) {
+            first /= REDUCTION;
+            last = (last + REDUCTION - 1) / REDUCTION;
+            for (int y = 0; y < heights[i]; y++) {
+                for (int x = first; x < last; x++) setPixel(i, x, y, reduce(i - 1, x * REDUCTION, y * REDUCTION));
+            }
+        }
+
+        // Remember the columns for the renderer
+        dirtyFrom = dirtyFrom < dirtyTo ? Math.min(dirtyFrom, from) : from;
+        dirtyTo = Math.max(dirtyTo, to);
+    }
+
+    /**
+     * Get the most important block of an area of a level (spikes over bounce blocks over normal blocks over air)
+     *
+     * @param level of the area
+     * @param left  side of the area
+     * @param top   side of the area
+     * @return the block id with the highest importance
+     */
+    private int reduce(int level, int left, int top) {
+        int id = 0;
+        for (int y = top; y < Math.min(top + REDUCTION, heights[level]); y++) {
+            for (int x = left; x < Math.min(left + REDUCTION, widths[level]); x++) {
+                id = Math.max(id, ids[level][y * widths[level] + x]);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Set a pixel of a level
+     */
+    private void setPixel(int level, int x, int y, int id) {
+        Palette color = Blocks.get(id).color;
+        ids[level][y * widths[level] + x] = (byte) id;
+        pixels[level][y * widths[level] + x] = color == null ? 0 : color.argb;
+    }
+
+    /**
+     * Choose the finest level and the largest scale with which the overview fits into a width
+     *
+     * @param maxWidth the available width (in world units)
+     */
+    public void layout(double maxWidth) {
+        level = 0;
+        while (level < LEVELS - 1 && widths[level] > maxWidth) level++;
+        scale = (int) Math.max(1, Math.min(MAX_SCALE, maxWidth / widths[level]));
+    }
+
+    /**
+     * Draw the overview with the position of the player (one image and two rectangles whatever the map's width)
+     *
+     * @param g    the renderer
+     * @param left the horizontal start of the visible area
+     * @param px   horizontal position of the player
+     * @param py   vertical position of the player
+     */
+    public void draw(Renderer g, double left, double px, double py) {
+        double x = left + MARGIN, y = g.getHeight() - getHeight() + MARGIN;
+
+        // Draw the background and the map
+        g.setFill(Palette.SHADOW);
+        g.fillRect(x - MARGIN / 2.0, y - MARGIN / 2.0, getWidth() - MARGIN, getHeight() - MARGIN);
+        g.drawMinimap(this, level, x, y, scale);
+
+        // Draw the player (at least three pixels large to be seen on the coarse level)
+        double tiles = scale / Math.pow(REDUCTION, level);
+        double markerX = x + (px / Map.SIZE + 1 - firstColumn) * tiles, markerY = y + (py / Map.SIZE) * tiles;
+        g.setFill(Palette.DARK_ORANGE);
+        g.fillRect(Math.max(x, Math.min(markerX, x + widths[level] * scale)) - 1.5,
+                Math.max(y, Math.min(markerY, y + heights[level] * scale)) - 1.5, 3, 3);
+    }
+
+    /**
+     * @return the width of the drawn overview including its margin (in world units)
+     */
+    public double getWidth() {
+        return widths[level] * scale + 2 * MARGIN;
+    }
+
+    /**
+     * @return the height of the drawn overview including its margin (in world units)
+     */
+    public double getHeight() {
+        return heights[level] * scale + 2 * MARGIN;
+    }
+
+    /**
+     * @param level of the overview
+     * @return the width of the level (in pixels)
+     */
+    public int getWidth(int level) {
+        return widths[level];
+    }
+
+    /**
+     * @param level of the overview
+     * @return the height of the level (in pixels)
+     */
+    public int getHeight(int level) {
+        return heights[level];
+    }
+
+    /**
+     * @param level of the overview
+     * @return the colors of the pixels of the level (row by row, ARGB, not to be modified)
+     */
+    public int[] getPixels(int level) {
+        return pixels[level];
+    }
+
+    /**
+     * @return the first column of the first level that changed since the last call of clearDirty
+     */
+    public int getDirtyFrom() {
+        return dirtyFrom;
+    }
+
+    /**
+     * @return the last column of the first level that changed since the last call of clearDirty (exclusive)
+     */
+    public int getDirtyTo() {
+        return dirtyTo;
+    }
+
+    /**
+     * Forget the changed columns (after the renderer took the pixels)
+     */
+    public void clearDirty() {
+        dirtyFrom = dirtyTo = 0;
+    }
+
+    /**
+     * Write a level as PNG
+     *
+     * @param level of the overview
+     * @param path  of the file
+     * @throws IOException if the file can't be written
+     */
+    public void writePng(int level, Path path) throws IOException {
+        BufferedImage image = new BufferedImage(widths[level], heights[level], BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, widths[level], heights[level], pixels[level], 0, widths[level]);
+        ImageIO.write(image, "png", path.toFile());
+    }
+
+    /**
+     * Write the levels of the overview of a generated map as PNG into the working directory
+     *
+     * @param args the seed of the map
+     */
+    public static void main(String[] args) throws IOException {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 0;
+        Minimap minimap = new Minimap(MapGenerator.createMap(seed));
+        for (int level = 0; level < LEVELS; level++) {
+            Path path = Path.of("minimap-" + seed + "-" + level + ".png");
+            minimap.writePng(level, path);
+            System.out.println("Wrote " + path.toAbsolutePath());
+        }
+    }
+}
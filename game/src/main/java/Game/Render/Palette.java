@@ -0,0 +1,41 @@
+package Game.Render;
+
+public enum Palette {
+
+    /**
+     * The color of normal blocks and the player's dot
+     */
+    BLACK(0xFF000000),
+    /**
+     * The color of bounce blocks
+     */
+    DARK_BLUE(0xFF00008B),
+    /**
+     * The color of spike blocks
+     */
+    DARK_RED(0xFF8B0000),
+    /**
+     * The color of the player
+     */
+    DARK_ORANGE(0xFFFF8C00),
+    /**
+     * The color of texts
+     */
+    WHITE(0xFFFFFFFF),
+    /**
+     * The translucent background of overlays
+     */
+    SHADOW(0x66000000);
+
+    /**
+     * The color as 32 bit ARGB
+     */
+    public final int argb;
+
+    /**
+     * Constructor
+     */
+    Palette(int argb) {
+        this.argb = argb;
+    }
+}
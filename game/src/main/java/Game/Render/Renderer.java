@@ -0,0 +1,91 @@
+package Game.Render;
+
+public interface Renderer {
+
+    /**
+     * @return the width of the viewport
+     */
+    double getWidth();
+
+    /**
+     * @return the height of the viewport
+     */
+    double getHeight();
+
+    /**
+     * Set the color for the following fill operations
+     *
+     * @param color to be used
+     */
+    void setFill(Palette color);
+
+    /**
+     * Fill a rectangle
+     *
+     * @param x      position of the rectangle
+     * @param y      position of the rectangle
+     * @param width  of the rectangle
+     * @param height of the rectangle
+     */
+    void fillRect(double x, double y, double width, double height);
+
+    /**
+     * Fill an oval
+     *
+     * @param x      position of the bounding box
+     * @param y      position of the bounding box
+     * @param width  of the bounding box
+     * @param height of the bounding box
+     */
+    void fillOval(double x, double y, double width, double height);
+
+    /**
+     * @return true if blocks are drawn from the sprites of the atlas instead of flat rectangles
+     */
+    boolean isTextured();
+
+    /**
+     * Draw a sprite of the atlas (stretched horizontally over a width, a sprite keeps its height)
+     *
+     * @param sprite the index of the sprite in the atlas
+     * @param x      position of the sprite
+     * @param y      position of the sprite
+     * @param width  of the drawn sprite
+     */
+    void drawSprite(int sprite, double x, double y, double width);
+
+    /**
+     * Set the font size for the following texts
+     *
+     * @param size of the font
+     */
+    void setFont(double size);
+
+    /**
+     * Fill a text that is centered on the given position
+     *
+     * @param text to be drawn
+     * @param x    position of the text
+     * @param y    position of the text
+     */
+    void fillText(String text, double x, double y);
+
+    /**
+     * Draw a static screen (renderers may draw it from a pre-rendered image)
+     *
+     * @param screen to be drawn
+     * @param x      the horizontal center of the screen
+     */
+    void drawScreen(Screen screen, double x);
+
+    /**
+     * Draw a level of a minimap as one image (renderers may keep the image until the minimap changes)
+     *
+     * @param minimap to be drawn
+     * @param level   of the minimap
+     * @param x       position of the image
+     * @param y       position of the image
+     * @param scale   the size of a pixel of the level (in world units)
+     */
+    void drawMinimap(Minimap minimap, int level, double x, double y, double scale);
+}
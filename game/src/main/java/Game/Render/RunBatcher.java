@@ -0,0 +1,52 @@
+package Game.Render;
+
+import Game.Models.Blocks;
+import Game.Models.Map;
+
+import java.util.Arrays;
+
+public class RunBatcher {
+
+    /**
+     * The runs of equal blocks to be drawn by block id (three values per run: row, first column and length)
+     */
+    private final int[][] runs = new int[Blocks.COUNT][96];
+    /**
+     * The amount of stored values per block id
+     */
+    private final int[] counts = new int[Blocks.COUNT];
+
+    /**
+     * Remember a run of equal blocks to be drawn
+     *
+     * @param id     of the blocks
+     * @param m      position of the first block on the map
+     * @param n      position of the first block on the map
+     * @param length the amount of blocks in the row
+     */
+    public void add(int id, int m, int n, int length) {
+        int count = counts[id];
+        if (count + 3 > runs[id].length) runs[id] = Arrays.copyOf(runs[id], 2 * runs[id].length);
+        runs[id][count] = m;
+        runs[id][count + 1] = n;
+        runs[id][count + 2] = length;
+        counts[id] = count + 3;
+    }
+
+    /**
+     * Draw the stored runs block type by block type (and set the fill only once per type), then forget them
+     *
+     * @param map the runs are on
+     * @param g   the renderer
+     */
+    public void draw(Map map, Renderer g) {
+        for (int id = 0; id < Blocks.COUNT; id++) {
+            if (counts[id] == 0) continue;
+            Blocks block = Blocks.get(id);
+            g.setFill(block.color);
+            int[] runs = this.runs[id];
+            for (int i = 0; i < counts[id]; i += 3) block.draw(map, runs[i], runs[i + 1], runs[i + 2], g);
+            counts[id] = 0;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package Game.Render;
+
+public enum Screen {
+
+    /**
+     * The screen shown when the player reached the finish
+     */
+    VICTORY((g, x) -> {
+        // Draw the background
+        g.setFill(Palette.SHADOW);
+        g.fillRect(x - g.getWidth(), 0, 2 * g.getWidth(), g.getHeight());
+
+        // Draw the title
+        g.setFill(Palette.WHITE);
+        g.setFont(120);
+        g.fillText("Victory", x, g.getHeight() / 2 - 100);
+
+        // Draw the hint on how to continue
+        g.setFont(60);
+        g.fillText("Press SPACE to continue", x, g.getHeight() / 2 + 60);
+    });
+
+    /**
+     * The screens by their ids
+     */
+    private static final Screen[] VALUES = values();
+    /**
+     * The amount of screens
+     */
+    public static final int COUNT = VALUES.length;
+    /**
+     * The action for drawing the screen
+     */
+    private final OnDraw draw;
+
+    /**
+     * Constructor
+     */
+    Screen(OnDraw draw) {
+        this.draw = draw;
+    }
+
+    /**
+     * Draw the screen (it covers twice the width of the viewport and its height)
+     *
+     * @param g the renderer
+     * @param x the horizontal center of the screen
+     */
+    public void draw(Renderer g, double x) {
+        draw.onDraw(g, x);
+    }
+
+    /**
+     * Event for drawing a screen
+     */
+    public interface OnDraw {
+        void onDraw(Renderer g, double x);
+    }
+}
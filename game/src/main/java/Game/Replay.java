@@ -0,0 +1,60 @@
+package Game;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class Replay {
+
+    /**
+     * Replay a recording without rendering as fast as possible and check it against the recorded outcome
+     *
+     * @param recording to be replayed
+     * @return the simulation after the last recorded tick
+     * @throws IllegalStateException if the replay diverges from the recorded states
+     */
+    public static Simulation run(InputRecorder recording) {
+        Simulation simulation = new Simulation(MapGenerator.createMap(recording.seed), recording.tickRate, 1);
+        Player player = simulation.player;
+        int next = 0, checkpoint = 0;
+        while (simulation.ticks < recording.length) {
+            // Queue the inputs of the tick
+            while (next < recording.size() && recording.getTick(next) == simulation.ticks) {
+                simulation.input(recording.getInput(next++));
+            }
+            simulation.tick();
+
+            // Compare the state with the recorded one on every checkpoint
+            if (simulation.ticks % InputRecorder.CHECKPOINT_INTERVAL == 0 && checkpoint < recording.checkpoints()
+                    && recording.getCheckpoint(checkpoint++) != player.hashState()) {
+                throw new IllegalStateException("The replay diverged before tick " + simulation.ticks);
+            }
+        }
+
+        // Compare the outcome
+        if (player.x != recording.x || player.y != recording.y || player.won != recording.won) {
+            throw new IllegalStateException(String.format(
+                    "The replay ended at x %.2f, y %.2f, won %b instead of x %.2f, y %.2f, won %b",
+                    player.x, player.y, player.won, recording.x, recording.y, recording.won));
+        }
+        return simulation;
+    }
+
+    /**
+     * Replay a recording several times and check that it reproduces the recorded outcome every time
+     *
+     * @param args the path of the recording and the amount of replays
+     * @throws IOException if the recording can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        InputRecorder recording = InputRecorder.load(Path.of(args[0]));
+        int replays = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < replays; i++) run(recording);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("seed %d, %d ticks, %d inputs, %d checkpoints: x %.2f, y %.2f, won %b%n", recording.seed,
+                recording.length, recording.size(), recording.checkpoints(), recording.x, recording.y, recording.won);
+        System.out.printf("%d replays in %.2f s (%.0f ticks/s)%n", replays, seconds, replays * recording.length / seconds);
+    }
+}
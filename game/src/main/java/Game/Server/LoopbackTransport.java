@@ -0,0 +1,78 @@
+package Game.Server;
+
+import Game.Input;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoopbackTransport implements Transport {
+
+    /**
+     * The server the inputs are passed to
+     */
+    private SessionServer server;
+    /**
+     * The latest snapshot of every session by its id (grown when a new session sends its first snapshot)
+     */
+    private volatile byte[][] latest = new byte[64][];
+    /**
+     * The amount of received snapshots and bytes
+     */
+    public final LongAdder snapshots = new LongAdder(), bytes = new LongAdder();
+
+    @Override
+    public void connect(SessionServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Send an input of a client to the server
+     *
+     * @param session the id of the session
+     * @param input   of the client
+     */
+    public void input(int session, Input input) {
+        server.input(session, input);
+    }
+
+    @Override
+    public void send(int session, ByteBuffer snapshot) {
+        int size = snapshot.remaining();
+        byte[][] latest = this.latest;
+        byte[] copy = session < latest.length ? latest[session] : null;
+        if (copy == null) copy = allocate(session);
+        synchronized (copy) {
+            snapshot.get(copy, 0, size);
+        }
+        snapshots.increment();
+        bytes.add(size);
+    }
+
+    /**
+     * Create the snapshot of a session (the first time it sends one)
+     *
+     * @param session the id of the session
+     * @return the snapshot of the session
+     */
+    private synchronized byte[] allocate(int session) {
+        if (session >= latest.length) latest = Arrays.copyOf(latest, Math.max(2 * latest.length, session + 1));
+        if (latest[session] == null) latest[session] = new byte[Snapshot.SIZE];
+        return latest[session];
+    }
+
+    /**
+     * Get the latest snapshot of a session
+     *
+     * @param session the id of the session
+     * @return the snapshot (or null if there is none yet)
+     */
+    public Snapshot getSnapshot(int session) {
+        byte[][] latest = this.latest;
+        byte[] copy = session < latest.length ? latest[session] : null;
+        if (copy == null) return null;
+        synchronized (copy) {
+            return Snapshot.read(ByteBuffer.wrap(copy));
+        }
+    }
+}
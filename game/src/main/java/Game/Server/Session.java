@@ -0,0 +1,61 @@
+package Game.Server;
+
+import Game.Input;
+import Game.Models.Map;
+import Game.Simulation;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class Session {
+
+    /**
+     * The id of the session
+     */
+    public final int id;
+    /**
+     * The simulation of the session
+     */
+    final Simulation simulation;
+    /**
+     * The inputs that arrived since the last tick (from any thread)
+     */
+    private final ConcurrentLinkedQueue<Input> inputs = new ConcurrentLinkedQueue<>();
+    /**
+     * The buffer the snapshots are encoded in
+     */
+    private final ByteBuffer snapshot = ByteBuffer.allocate(Snapshot.SIZE);
+
+    /**
+     * Constructor
+     *
+     * @param id       of the session
+     * @param map      to be played (it may be shared with other sessions)
+     * @param tickRate the amount of ticks per second
+     */
+    Session(int id, Map map, int tickRate) {
+        this.id = id;
+        this.simulation = new Simulation(map, tickRate, 1);
+    }
+
+    /**
+     * Queue an input for the next tick
+     *
+     * @param input of the client
+     */
+    void input(Input input) {
+        inputs.add(input);
+    }
+
+    /**
+     * Simulate a tick and encode the new state
+     *
+     * @return the snapshot after the tick
+     */
+    ByteBuffer tick() {
+        for (Input input = inputs.poll(); input != null; input = inputs.poll()) simulation.input(input);
+        simulation.tick();
+        Snapshot.write(snapshot, id, simulation.ticks, simulation.player);
+        return snapshot;
+    }
+}
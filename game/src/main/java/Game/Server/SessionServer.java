@@ -0,0 +1,176 @@
+package Game.Server;
+
+import Game.Input;
+import Game.Models.Map;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SessionServer {
+
+    /**
+     * The transport of the inputs and the snapshots
+     */
+    private final Transport transport;
+    /**
+     * The tick rate of the sessions (in ticks per second)
+     */
+    private final int tickRate;
+    /**
+     * The threads that run the event loops
+     */
+    private final ScheduledExecutorService scheduler;
+    /**
+     * The event loops (each one ticks its sessions one after another)
+     */
+    private final Loop[] loops;
+    /**
+     * The open sessions by their ids
+     */
+    private final ConcurrentHashMap<Integer, Session> sessions = new ConcurrentHashMap<>();
+    /**
+     * The id of the next session
+     */
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Constructor
+     *
+     * @param transport of the inputs and the snapshots
+     * @param threads   the amount of event loops (usually the amount of cores)
+     * @param tickRate  the tick rate of the sessions (in ticks per second)
+     */
+    public SessionServer(Transport transport, int threads, int tickRate) {
+        this.transport = transport;
+        this.tickRate = tickRate;
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Session server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.loops = new Loop[threads];
+        for (int i = 0; i < threads; i++) loops[i] = new Loop();
+        transport.connect(this);
+    }
+
+    /**
+     * Start ticking the sessions
+     */
+    public void start() {
+        long period = 1_000_000_000L / tickRate;
+        for (int i = 0; i < loops.length; i++) {
+            scheduler.scheduleAtFixedRate(loops[i], period * i / loops.length, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Open a session
+     *
+     * @param map to be played (it may be shared with other sessions as the simulation doesn't modify it)
+     * @return the id of the session
+     */
+    public int open(Map map) {
+        Session session = new Session(nextId.getAndIncrement(), map, tickRate);
+        sessions.put(session.id, session);
+        loops[Math.floorMod(session.id, loops.length)].added.add(session);
+        return session.id;
+    }
+
+    /**
+     * Close a session
+     *
+     * @param id of the session
+     */
+    public void close(int id) {
+        Session session = sessions.remove(id);
+        if (session != null) loops[Math.floorMod(id, loops.length)].removed.add(session);
+    }
+
+    /**
+     * Receive an input of a client (from any thread)
+     *
+     * @param id    of the session
+     * @param input of the client
+     */
+    public void input(int id, Input input) {
+        Session session = sessions.get(id);
+        if (session != null) session.input(input);
+    }
+
+    /**
+     * @return the amount of ticks of all event loops so far
+     */
+    public long getLoopTicks() {
+        long ticks = 0;
+        for (Loop loop : loops) ticks += loop.ticks;
+        return ticks;
+    }
+
+    /**
+     * @return the time the event loops were busy so far (in nanoseconds)
+     */
+    public long getBusyTime() {
+        long time = 0;
+        for (Loop loop : loops) time += loop.busy;
+        return time;
+    }
+
+    /**
+     * @return the amount of event loops
+     */
+    public int getThreads() {
+        return loops.length;
+    }
+
+    /**
+     * Stop ticking the sessions
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * An event loop that ticks its sessions on every period
+     */
+    private class Loop implements Runnable {
+
+        /**
+         * The sessions that were opened or closed since the last tick
+         */
+        private final ConcurrentLinkedQueue<Session> added = new ConcurrentLinkedQueue<>(), removed = new ConcurrentLinkedQueue<>();
+        /**
+         * The sessions of the loop (only used by the loop's thread)
+         */
+        private final ArrayList<Session> sessions = new ArrayList<>();
+        /**
+         * The amount of ticks and the time the loop was busy (in nanoseconds)
+         */
+        private volatile long ticks, busy;
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+
+            // Update the sessions of the loop
+            for (Session session = added.poll(); session != null; session = added.poll()) sessions.add(session);
+            for (Session session = removed.poll(); session != null; session = removed.poll()) sessions.remove(session);
+
+            // Tick the sessions and send their snapshots (a failing session is closed, as an exception would cancel the loop)
+            for (Session session : sessions) {
+                try {
+                    transport.send(session.id, session.tick());
+                } catch (RuntimeException e) {
+                    System.err.println("Closing session " + session.id + " after an error: " + e);
+                    close(session.id);
+                }
+            }
+            ticks++;
+            busy += System.nanoTime() - start;
+        }
+    }
+}
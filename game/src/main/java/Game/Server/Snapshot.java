@@ -0,0 +1,71 @@
+package Game.Server;
+
+import Game.Player;
+
+import java.nio.ByteBuffer;
+
+public class Snapshot {
+
+    /**
+     * The flags of the player
+     */
+    public static final byte DEAD = 1, WON = 2;
+    /**
+     * The size of an encoded snapshot (in bytes)
+     */
+    public static final int SIZE = 4 + 8 + 3 * 4 + 1;
+    /**
+     * The id of the session
+     */
+    public final int session;
+    /**
+     * The tick of the snapshot
+     */
+    public final long tick;
+    /**
+     * The position and the radius of the player
+     */
+    public final float x, y, radius;
+    /**
+     * The flags of the player
+     */
+    public final byte flags;
+
+    /**
+     * Constructor
+     */
+    public Snapshot(int session, long tick, float x, float y, float radius, byte flags) {
+        this.session = session;
+        this.tick = tick;
+        this.x = x;
+        this.y = y;
+        this.radius = radius;
+        this.flags = flags;
+    }
+
+    /**
+     * Encode the state of a player
+     *
+     * @param buffer  the snapshot is written to (from its start)
+     * @param session the id of the session
+     * @param tick    the current tick of the session
+     * @param player  of the session
+     */
+    public static void write(ByteBuffer buffer, int session, long tick, Player player) {
+        buffer.clear();
+        buffer.putInt(session).putLong(tick).putFloat((float) player.x).putFloat((float) player.y)
+                .putFloat((float) player.radius).put((byte) ((player.dead ? DEAD : 0) | (player.won ? WON : 0)));
+        buffer.flip();
+    }
+
+    /**
+     * Decode a snapshot
+     *
+     * @param buffer the snapshot is read from (from its position)
+     * @return the snapshot
+     */
+    public static Snapshot read(ByteBuffer buffer) {
+        return new Snapshot(buffer.getInt(), buffer.getLong(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat(),
+                buffer.get());
+    }
+}
@@ -0,0 +1,21 @@
+package Game.Server;
+
+import java.nio.ByteBuffer;
+
+public interface Transport {
+
+    /**
+     * Connect the transport to the server that receives the inputs of the clients
+     *
+     * @param server of the sessions
+     */
+    void connect(SessionServer server);
+
+    /**
+     * Send the snapshot of a session to its client (the buffer is only valid during the call)
+     *
+     * @param session  the id of the session
+     * @param snapshot the encoded snapshot
+     */
+    void send(int session, ByteBuffer snapshot);
+}
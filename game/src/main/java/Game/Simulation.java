@@ -0,0 +1,147 @@
+package Game;
+
+import Game.Models.EndlessMap;
+import Game.Models.Map;
+
+import java.util.Arrays;
+
+public class Simulation {
+
+    /**
+     * The map that is simulated
+     */
+    public final Map map;
+    /**
+     * The player on the map
+     */
+    public final Player player;
+    /**
+     * The map if it's generated while playing
+     */
+    private final EndlessMap endlessMap;
+    /**
+     * The length of a tick (in seconds)
+     */
+    public final double step;
+    /**
+     * The maximum amount of ticks that are simulated per call of advance
+     */
+    private final int maxTicks;
+    /**
+     * The time that is not simulated yet (in seconds)
+     */
+    private double accumulator;
+    /**
+     * The ids of the inputs that are applied on the next tick (grows if more inputs arrive between two ticks)
+     */
+    private int[] inputs = new int[16];
+    /**
+     * The amount of inputs for the next tick
+     */
+    private int pending;
+    /**
+     * The recorder of the applied inputs
+     */
+    private InputRecorder recorder;
+    /**
+     * The amount of ticks simulated so far
+     */
+    public long ticks;
+
+    /**
+     * Constructor
+     *
+     * @param map      to be simulated
+     * @param tickRate the amount of ticks per second
+     * @param maxTicks the maximum amount of ticks per call of advance
+     */
+    public Simulation(Map map, int tickRate, int maxTicks) {
+        this.map = map;
+        this.player = new Player(map);
+        this.endlessMap = map instanceof EndlessMap ? (EndlessMap) map : null;
+        this.step = 1.0 / tickRate;
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Queue an input that is applied at the start of the next tick
+     *
+     * @param input to be applied
+     */
+    public void input(Input input) {
+        if (pending == inputs.length) inputs = Arrays.copyOf(inputs, 2 * pending);
+        inputs[pending++] = input.ordinal();
+    }
+
+    /**
+     * Record the applied inputs
+     *
+     * @param recorder of the inputs
+     */
+    public void record(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Stop the generation of an endless map (the simulation must not be advanced afterwards)
+     */
+    public void close() {
+        if (endlessMap != null) endlessMap.close();
+    }
+
+    /**
+     * Simulate a single tick
+     */
+    public void tick() {
+        tick(step);
+    }
+
+    /**
+     * Simulate a single tick of a certain length
+     *
+     * @param time to be simulated (in seconds)
+     */
+    public void tick(double time) {
+        // Apply the inputs
+        for (int i = 0; i < pending; i++) {
+            Input input = Input.get(inputs[i]);
+            if (recorder != null) recorder.record(ticks, input);
+            input.apply(player);
+        }
+        pending = 0;
+
+        // Move the player
+        player.move(time);
+        if (endlessMap != null) endlessMap.follow(player.x);
+        ticks++;
+        if (recorder != null) recorder.update(ticks, player);
+    }
+
+    /**
+     * Simulate the time that passed in fixed ticks
+     *
+     * @param time that passed (in seconds)
+     * @return the amount of simulated ticks
+     */
+    public int advance(double time) {
+        // Catch up in fixed steps
+        accumulator += time;
+        int ticks = 0;
+        while (accumulator >= step && ticks < maxTicks) {
+            tick();
+            accumulator -= step;
+            ticks++;
+        }
+
+        // Drop the time that could not be caught up
+        if (ticks == maxTicks) accumulator = Math.min(accumulator, step);
+        return ticks;
+    }
+
+    /**
+     * @return the progress from the last tick towards the next one (0 to 1)
+     */
+    public double getAlpha() {
+        return accumulator / step;
+    }
+}
@@ -0,0 +1,157 @@
+package UI;
+
+import Game.Models.Map;
+import Game.Render.RunBatcher;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+public class ChunkCache {
+
+    /**
+     * The map that is cached
+     */
+    private final Map map;
+    /**
+     * The amount of columns per chunk
+     */
+    private final int chunkSize;
+    /**
+     * The pixels of the chunks per world unit
+     */
+    private final double scale;
+    /**
+     * The rasterized chunks in a ring (a chunk is stored in the slot of its index modulo the capacity)
+     */
+    private final WritableImage[] chunks;
+    /**
+     * The indices of the chunks in the slots of the ring (-1 if a slot is empty)
+     */
+    private final int[] indices;
+    /**
+     * The offscreen canvas the chunks are rasterized on
+     */
+    private final Canvas canvas;
+    /**
+     * The renderer of the offscreen canvas
+     */
+    private final FxRenderer renderer;
+    /**
+     * The runs of blocks of the chunk that is rasterized
+     */
+    private final RunBatcher runs = new RunBatcher();
+    /**
+     * The parameters for taking the snapshots
+     */
+    private final SnapshotParameters parameters = new SnapshotParameters();
+    /**
+     * The first chunk that was visible on the last frame
+     */
+    private int firstChunk = -1;
+
+    /**
+     * Constructor
+     *
+     * @param map       to be cached
+     * @param chunkSize the amount of columns per chunk
+     * @param margin    the amount of chunks that are cached beyond the visible ones
+     * @param viewport  the visible area (the chunks have the pixels of its render target)
+     */
+    public ChunkCache(Map map, int chunkSize, int margin, Viewport viewport) {
+        this.map = map;
+        this.chunkSize = chunkSize;
+        this.scale = viewport.getRenderScale();
+
+        // The visible area intersects at most one chunk more than it covers
+        int capacity = viewport.getWidth() / (chunkSize * Map.SIZE) + 2 + margin;
+        this.chunks = new WritableImage[capacity];
+        this.indices = new int[capacity];
+        Arrays.fill(indices, -1);
+
+        // Blocks overlap their neighbors by one pixel, so the canvas has a margin of one pixel
+        this.canvas = new Canvas(Math.ceil((chunkSize * Map.SIZE + 2) * scale),
+                Math.ceil((Map.HEIGHT * Map.SIZE + 2) * scale));
+        this.renderer = new FxRenderer(canvas.getGraphicsContext2D(), viewport);
+        parameters.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Draw the chunks that intersect the visible area
+     *
+     * @param g     the graphics context
+     * @param left  the horizontal start of the visible area (in world units)
+     * @param width of the visible area (in world units)
+     */
+    public void draw(GraphicsContext g, double left, double width) {
+        // Calculate the visible chunks
+        int first = Math.max(toChunk(left), 0);
+        int last = Math.min(toChunk(left + width), (map.width - 1) / chunkSize);
+
+        // Evict the chunks that are far behind
+        if (first != firstChunk) {
+            firstChunk = first;
+            evictBefore(first - 1);
+        }
+
+        // Draw the chunks
+        for (int chunk = first; chunk <= last; chunk++) {
+            WritableImage image = getChunk(chunk);
+            g.drawImage(image, Map.toX(chunk * chunkSize) - 1, Map.toY(Map.HEIGHT_OFFSET) - 1,
+                    image.getWidth() / scale, image.getHeight() / scale);
+        }
+    }
+
+    /**
+     * Get a chunk and rasterize it if it's not cached
+     *
+     * @param chunk the index of the chunk
+     * @return the image of the chunk
+     */
+    private WritableImage getChunk(int chunk) {
+        int slot = chunk % chunks.length;
+        if (indices[slot] == chunk) return chunks[slot];
+
+        // Draw the columns of the chunk onto the offscreen canvas
+        int from = chunk * chunkSize;
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setTransform(1, 0, 0, 1, 0, 0);
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        g.setTransform(scale, 0, 0, scale, (1 - Map.toX(from)) * scale, (1 - Map.toY(Map.HEIGHT_OFFSET)) * scale);
+        map.drawColumns(renderer, runs, from, from + chunkSize);
+
+        // Take the snapshot and cache it (unless parts of it are not generated yet)
+        WritableImage image = canvas.snapshot(parameters, null);
+        if (map.getLastColumn() >= Math.min(from + chunkSize, map.width - 1)) {
+            chunks[slot] = image;
+            indices[slot] = chunk;
+        }
+        return image;
+    }
+
+    /**
+     * Evict all chunks before a certain chunk
+     *
+     * @param chunk the first chunk to be kept
+     */
+    private void evictBefore(int chunk) {
+        for (int slot = 0; slot < chunks.length; slot++) {
+            if (indices[slot] >= chunk) continue;
+            chunks[slot] = null;
+            indices[slot] = -1;
+        }
+    }
+
+    /**
+     * Get the chunk of a horizontal position
+     *
+     * @param x position (in world units)
+     * @return the index of the chunk
+     */
+    private int toChunk(double x) {
+        return Math.floorDiv((int) Math.floor(x / Map.SIZE) + 1, chunkSize);
+    }
+}
@@ -0,0 +1,49 @@
+package UI;
+
+import Game.Game;
+import javafx.fxml.FXML;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Pane;
+
+public class Controller {
+
+    /**
+     * The canvas
+     */
+    @FXML
+    Canvas canvas;
+    /**
+     * The layers of the game (clipped to the canvas)
+     */
+    @FXML
+    Pane layers;
+    /**
+     * The root of the window
+     */
+    @FXML
+    Pane root;
+    /**
+     * The game shown in the window
+     */
+    private Game game;
+
+    /**
+     * Start the game
+     */
+    @FXML
+    public void initialize() {
+        canvas.setFocusTraversable(true);
+        game = new Game(canvas, layers);
+
+        // Fit the game into the window whenever it's resized
+        root.widthProperty().addListener((observable, oldWidth, width) -> game.resize(root.getWidth(), root.getHeight()));
+        root.heightProperty().addListener((observable, oldHeight, height) -> game.resize(root.getWidth(), root.getHeight()));
+    }
+
+    /**
+     * Stop the game
+     */
+    public void stop() {
+        game.stop();
+    }
+}
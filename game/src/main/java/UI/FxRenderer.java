@@ -0,0 +1,194 @@
+package UI;
+
+import Game.Render.Atlas;
+import Game.Render.Minimap;
+import Game.Render.Palette;
+import Game.Render.Renderer;
+import Game.Render.Screen;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.HashMap;
+
+public class FxRenderer implements Renderer {
+
+    /**
+     * The colors of the palette
+     */
+    private static final Color[] COLORS = new Color[Palette.values().length];
+    /**
+     * True if the blocks are drawn from the atlas
+     */
+    public static boolean textured = true;
+    /**
+     * The sprite sheet of the atlas (uploaded on first use)
+     */
+    private static WritableImage atlas;
+    /**
+     * The fonts by their size
+     */
+    private static final HashMap<Double, Font> FONTS = new HashMap<>();
+    /**
+     * The pre-rendered screens by their ids
+     */
+    private static final WritableImage[] SCREENS = new WritableImage[Screen.COUNT];
+    static {
+        for (Palette color : Palette.values()) {
+            int argb = color.argb;
+            COLORS[color.ordinal()] = Color.rgb(argb >> 16 & 0xFF, argb >> 8 & 0xFF, argb & 0xFF, (argb >>> 24) / 255.0);
+        }
+    }
+
+    /**
+     * The graphics context that is drawn on
+     */
+    private final GraphicsContext g;
+    /**
+     * The visible area that is drawn
+     */
+    private final Viewport viewport;
+    /**
+     * The size of the current font
+     */
+    private double fontSize;
+    /**
+     * The minimap whose levels were uploaded into images and the images of its levels
+     */
+    private Minimap minimap;
+    private final WritableImage[] minimapImages = new WritableImage[Minimap.LEVELS];
+
+    /**
+     * Constructor
+     *
+     * @param g        the graphics context to draw on
+     * @param viewport the visible area that is drawn
+     */
+    public FxRenderer(GraphicsContext g, Viewport viewport) {
+        this.g = g;
+        this.viewport = viewport;
+        g.setTextAlign(TextAlignment.CENTER);
+        g.setTextBaseline(VPos.CENTER);
+        g.setImageSmoothing(false);
+    }
+
+    @Override
+    public double getWidth() {
+        return viewport.getWidth();
+    }
+
+    @Override
+    public double getHeight() {
+        return viewport.getHeight();
+    }
+
+    @Override
+    public void setFill(Palette color) {
+        g.setFill(COLORS[color.ordinal()]);
+    }
+
+    @Override
+    public void fillRect(double x, double y, double width, double height) {
+        g.fillRect(x, y, width, height);
+    }
+
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+        g.fillOval(x, y, width, height);
+    }
+
+    @Override
+    public boolean isTextured() {
+        return textured;
+    }
+
+    @Override
+    public void drawSprite(int sprite, double x, double y, double width) {
+        if (atlas == null) {
+            atlas = new WritableImage(Atlas.WIDTH, Atlas.HEIGHT);
+            atlas.getPixelWriter().setPixels(0, 0, Atlas.WIDTH, Atlas.HEIGHT, PixelFormat.getIntArgbInstance(),
+                    Atlas.getPixels(), 0, Atlas.WIDTH);
+        }
+        g.drawImage(atlas, Atlas.getX(sprite), Atlas.getY(sprite), Atlas.SPRITE, Atlas.SPRITE, x, y, width, Atlas.SPRITE);
+    }
+
+    @Override
+    public void setFont(double size) {
+        if (size == fontSize) return;
+        fontSize = size;
+        g.setFont(FONTS.computeIfAbsent(size, key -> new Font("Verdana", key)));
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+        g.fillText(text, x, y);
+    }
+
+    @Override
+    public void drawScreen(Screen screen, double x) {
+        WritableImage image = SCREENS[screen.ordinal()];
+        double scale = viewport.getRenderScale();
+        if (image == null || image.getWidth() != Math.ceil(2 * getWidth() * scale)
+                || image.getHeight() != Math.ceil(getHeight() * scale)) {
+            image = renderScreen(screen);
+            SCREENS[screen.ordinal()] = image;
+        }
+        g.drawImage(image, x - getWidth(), 0, image.getWidth() / scale, image.getHeight() / scale);
+    }
+
+    @Override
+    public void drawMinimap(Minimap minimap, int level, double x, double y, double scale) {
+        // Upload the levels of a new minimap and the changed columns of a known one
+        if (minimap != this.minimap) {
+            this.minimap = minimap;
+            for (int i = 0; i < Minimap.LEVELS; i++) {
+                minimapImages[i] = new WritableImage(minimap.getWidth(i), minimap.getHeight(i));
+                uploadMinimap(i, 0, minimap.getWidth(i));
+            }
+            minimap.clearDirty();
+        } else if (minimap.getDirtyFrom() < minimap.getDirtyTo()) {
+            int from = minimap.getDirtyFrom(), to = minimap.getDirtyTo();
+            for (int i = 0, reduction = 1; i < Minimap.LEVELS; i++, reduction *= Minimap.REDUCTION) {
+                uploadMinimap(i, from / reduction, Math.min((to + reduction - 1) / reduction, minimap.getWidth(i)));
+            }
+            minimap.clearDirty();
+        }
+
+        // Draw the level (without smoothing, so the tiles stay sharp)
+        g.drawImage(minimapImages[level], x, y, minimap.getWidth(level) * scale, minimap.getHeight(level) * scale);
+    }
+
+    /**
+     * Copy columns of a level of the minimap into its image
+     *
+     * @param level of the minimap
+     * @param from  the first column (inclusive)
+     * @param to    the last column (exclusive)
+     */
+    private void uploadMinimap(int level, int from, int to) {
+        minimapImages[level].getPixelWriter().setPixels(from, 0, to - from, minimap.getHeight(level),
+                PixelFormat.getIntArgbInstance(), minimap.getPixels(level), from, minimap.getWidth(level));
+    }
+
+    /**
+     * Render a screen into an image
+     *
+     * @param screen to be rendered
+     * @return the image of the screen
+     */
+    private WritableImage renderScreen(Screen screen) {
+        double scale = viewport.getRenderScale();
+        Canvas canvas = new Canvas(Math.ceil(2 * getWidth() * scale), Math.ceil(getHeight() * scale));
+        canvas.getGraphicsContext2D().setTransform(scale, 0, 0, scale, 0, 0);
+        screen.draw(new FxRenderer(canvas.getGraphicsContext2D(), viewport), getWidth());
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(parameters, null);
+    }
+}
@@ -0,0 +1,51 @@
+package UI;
+
+import javafx.application.Application;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+public class Main extends Application {
+
+    /**
+     * The smallest size of the window (in pixels)
+     */
+    public static final int MIN_WIDTH = 400, MIN_HEIGHT = 240;
+
+    /**
+     * The controller of the window
+     */
+    private Controller controller;
+
+    /**
+     * Main
+     */
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    /**
+     * Setup and show the primary stage
+     */
+    @Override
+    public void start(Stage primaryStage) throws Exception {
+        // Show the scene
+        FXMLLoader loader = new FXMLLoader(getClass().getResource("main.fxml"));
+        Parent root = loader.load();
+        controller = loader.getController();
+        primaryStage.setMinWidth(MIN_WIDTH);
+        primaryStage.setMinHeight(MIN_HEIGHT);
+        primaryStage.setTitle("Jump and Run");
+        primaryStage.setScene(new Scene(root, Viewport.DEFAULT_WIDTH, Viewport.HEIGHT));
+        primaryStage.show();
+    }
+
+    /**
+     * Stop the game when the window is closed
+     */
+    @Override
+    public void stop() {
+        if (controller != null) controller.stop();
+    }
+}
@@ -0,0 +1,159 @@
+package UI;
+
+import Game.Models.Map;
+import Game.Render.RunBatcher;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+
+public class ScrollingMap {
+
+    /**
+     * The map that is drawn
+     */
+    private final Map map;
+    /**
+     * The layers the pages are shown in
+     */
+    private final Pane layers;
+    /**
+     * The width of the visible area (in world units)
+     */
+    private final double width;
+    /**
+     * The pixels of the pages per world unit
+     */
+    private final double scale;
+    /**
+     * The amount of columns per page
+     */
+    private final int pageColumns;
+    /**
+     * The two pages (the visible area never spans more than two pages)
+     */
+    private final Page[] pages = new Page[2];
+
+    /**
+     * Constructor
+     *
+     * @param map      to be drawn
+     * @param layers   the layers the pages are added to (behind the other layers)
+     * @param viewport the visible area (the pages have the pixels of its render target)
+     */
+    public ScrollingMap(Map map, Pane layers, Viewport viewport) {
+        this.map = map;
+        this.layers = layers;
+        this.width = viewport.getWidth();
+        this.scale = viewport.getRenderScale();
+        this.pageColumns = (int) Math.ceil(width / Map.SIZE) + 1;
+        for (int i = 0; i < pages.length; i++) {
+            Canvas canvas = new Canvas(Math.ceil((pageColumns * Map.SIZE + 2) * scale), Math.ceil(viewport.getHeight() * scale));
+            pages[i] = new Page(canvas, viewport);
+            pages[i].canvas.setManaged(false);
+            layers.getChildren().add(i, pages[i].canvas);
+        }
+    }
+
+    /**
+     * Scroll the pages with the camera and draw the columns that became visible
+     *
+     * @param cameraX the horizontal translation of the camera (in world units)
+     */
+    public void draw(double cameraX) {
+        double left = -cameraX;
+        int first = Math.floorDiv((int) Math.floor(left), pageColumns * Map.SIZE);
+        for (int page = first; page <= first + 1; page++) {
+            pages[Math.floorMod(page, pages.length)].show(page, left, cameraX);
+        }
+    }
+
+    /**
+     * Remove the pages from the layers
+     */
+    public void dispose() {
+        for (Page page : pages) layers.getChildren().remove(page.canvas);
+    }
+
+    /**
+     * A canvas that keeps the columns of a page of the map
+     */
+    private class Page {
+
+        /**
+         * The canvas of the page (with a margin of one pixel for the overlapping blocks)
+         */
+        private final Canvas canvas;
+        /**
+         * The renderer of the canvas
+         */
+        private final FxRenderer renderer;
+        /**
+         * The runs of blocks of the columns that are drawn
+         */
+        private final RunBatcher runs = new RunBatcher();
+        /**
+         * The index of the page that is shown
+         */
+        private int page = Integer.MIN_VALUE;
+        /**
+         * The columns that are drawn already (inclusive and exclusive)
+         */
+        private int drawnFrom, drawnTo;
+
+        /**
+         * Constructor
+         *
+         * @param canvas   of the page
+         * @param viewport the visible area
+         */
+        private Page(Canvas canvas, Viewport viewport) {
+            this.canvas = canvas;
+            this.renderer = new FxRenderer(canvas.getGraphicsContext2D(), viewport);
+        }
+
+        /**
+         * Show a page of the map and draw its visible columns that are not drawn yet
+         *
+         * @param page    the index of the page
+         * @param left    the horizontal start of the visible area (in world units)
+         * @param cameraX the horizontal translation of the camera (in world units)
+         */
+        private void show(int page, double left, double cameraX) {
+            int firstColumn = page * pageColumns + 1;
+
+            // Clear the canvas if it showed another page
+            if (this.page != page) {
+                this.page = page;
+                drawnFrom = drawnTo = firstColumn;
+                GraphicsContext g = canvas.getGraphicsContext2D();
+                g.setTransform(1, 0, 0, 1, 0, 0);
+                g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+                g.setTransform(scale, 0, 0, scale, (1 - Map.toX(firstColumn)) * scale, 0);
+            }
+
+            // Calculate the visible columns (including the neighbors overlapping the page)
+            int from = Math.max(Map.toTile(left), firstColumn - 1);
+            int to = Math.min(Map.toTile(left + width) + 3, firstColumn + pageColumns + 1);
+            to = Math.min(to, map.getLastColumn());
+
+            // Draw the columns that are not drawn yet
+            if (drawnFrom == drawnTo) {
+                map.drawColumns(renderer, runs, from, to);
+                drawnFrom = from;
+                drawnTo = Math.max(from, to);
+            } else {
+                if (from < drawnFrom) {
+                    map.drawColumns(renderer, runs, from, drawnFrom);
+                    drawnFrom = from;
+                }
+                if (to > drawnTo) {
+                    map.drawColumns(renderer, runs, drawnTo, to);
+                    drawnTo = to;
+                }
+            }
+
+            // Move the page with the camera
+            canvas.setTranslateX((cameraX + Map.toX(firstColumn) - 1) * scale);
+        }
+    }
+}
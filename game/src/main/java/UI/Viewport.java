@@ -0,0 +1,81 @@
+package UI;
+
+public class Viewport {
+
+    /**
+     * The height of the visible area in world units (fixed, the width follows the shape of the window)
+     */
+    public static final int HEIGHT = 600;
+    /**
+     * The width of the visible area before the first layout (in world units)
+     */
+    public static final int DEFAULT_WIDTH = 1000;
+    /**
+     * The size of the visible area in world units
+     */
+    private int width = DEFAULT_WIDTH;
+    /**
+     * The pixels of the window and the pixels of the render target per world unit
+     */
+    private double scale = 1, renderScale = 1;
+    /**
+     * The amount of pixels of the window per pixel of the render target along each axis
+     */
+    private int divisor = 1;
+
+    /**
+     * Fit the visible area into the window and scale the render target down by an integer factor
+     *
+     * @param windowWidth  the width of the window (in pixels)
+     * @param windowHeight the height of the window (in pixels)
+     * @param divisor      the amount of pixels of the window per pixel of the render target along each axis
+     */
+    public void layout(double windowWidth, double windowHeight, int divisor) {
+        scale = windowHeight / HEIGHT;
+        width = (int) Math.ceil(windowWidth / scale);
+        this.divisor = divisor;
+        renderScale = scale / divisor;
+    }
+
+    /**
+     * @return the width of the visible area (in world units)
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return half the width of the visible area (in world units)
+     */
+    public int getHalfWidth() {
+        return width / 2;
+    }
+
+    /**
+     * @return the height of the visible area (in world units)
+     */
+    public int getHeight() {
+        return HEIGHT;
+    }
+
+    /**
+     * @return the pixels of the window per world unit
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * @return the pixels of the render target per world unit
+     */
+    public double getRenderScale() {
+        return renderScale;
+    }
+
+    /**
+     * @return the amount of pixels of the window per pixel of the render target along each axis
+     */
+    public int getDivisor() {
+        return divisor;
+    }
+}
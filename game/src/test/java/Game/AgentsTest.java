@@ -0,0 +1,105 @@
+package Game;
+
+import Game.Models.Blocks;
+import Game.Models.Map;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AgentsTest {
+
+    /**
+     * The amount of agents and ticks that are compared with players
+     */
+    private static final int COMPARED = 200, TICKS = 120 * 60;
+    /**
+     * The length of a tick (in seconds)
+     */
+    private static final double STEP = 1.0 / 120;
+
+    /**
+     * Agents that get the same random inputs as players move exactly like them
+     */
+    @Test
+    void agentsMoveLikePlayers() {
+        // Mix in bounce and spike blocks and move the finish closer, so that every collision path is compared
+        SplittableRandom random = new SplittableRandom(42);
+        Map map = MapGenerator.createMap(42, 300);
+        map.finish = map.x + 1200;
+        for (int n = 30; n < map.width - 30; n++) {
+            for (int m = 1; m < map.height - 1; m++) {
+                if (map.get(m, n).solid && random.nextInt(8) == 0) map.set(m, n, random.nextBoolean() ? Blocks.BOUNCE : Blocks.SPIKE);
+            }
+        }
+
+        // Compare the agents with players that get the same random inputs
+        Agents agents = new Agents(map, COMPARED);
+        Player[] players = new Player[COMPARED];
+        for (int i = 0; i < COMPARED; i++) {
+            players[i] = new Player(map);
+            Input.RIGHT.apply(players[i]);
+            Input.RIGHT.apply(agents, i);
+        }
+        int deaths = 0, wins = 0;
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (int i = 0; i < COMPARED; i++) {
+                int decision = random.nextInt(40);
+                if (decision > 4) continue;
+                Input input = decision < 4 ? Input.JUMP : Input.get(random.nextInt(3));
+                input.apply(players[i]);
+                input.apply(agents, i);
+            }
+            for (int i = 0; i < COMPARED; i++) {
+                if (players[i].won) {
+                    wins++;
+                    players[i].spawn();
+                    agents.spawn(i);
+                }
+            }
+            for (Player player : players) player.move(STEP);
+            agents.step(STEP);
+            for (int i = 0; i < COMPARED; i++) {
+                Player player = players[i];
+                if (player.dead && !player.won) deaths++;
+                String agent = "agent " + i + " on tick " + tick;
+                assertEquals(player.x, agents.x[i], agent);
+                assertEquals(player.y, agents.y[i], agent);
+                assertEquals(player.radius, agents.radius[i], agent);
+                assertEquals(player.dead, agents.isDead(i), agent);
+                assertEquals(player.won, agents.hasWon(i), agent);
+            }
+        }
+
+        // Make sure that the comparison covered dying and winning
+        assertTrue(deaths > 0, "no agent died");
+        assertTrue(wins > 0, "no agent won");
+    }
+
+    /**
+     * Moving the agents in parallel batches gives the same result as moving them in one thread
+     */
+    @Test
+    void parallelStepMatchesStep() {
+        Map map = MapGenerator.createMap(7, 300);
+        int count = 3 * Agents.BATCH + 17;
+        Agents sequential = new Agents(map, count), parallel = new Agents(map, count);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int tick = 0; tick < 600; tick++) {
+            for (int i = 0; i < count; i++) {
+                if (random.nextInt(20) != 0) continue;
+                Input input = Input.get(random.nextInt(4));
+                input.apply(sequential, i);
+                input.apply(parallel, i);
+            }
+            sequential.step(STEP);
+            parallel.stepParallel(STEP);
+        }
+        for (int i = 0; i < count; i++) {
+            assertEquals(sequential.x[i], parallel.x[i]);
+            assertEquals(sequential.y[i], parallel.y[i]);
+        }
+    }
+}
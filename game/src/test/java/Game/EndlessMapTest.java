@@ -0,0 +1,69 @@
+package Game;
+
+import Game.Models.EndlessMap;
+import Game.Models.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class EndlessMapTest {
+
+    /**
+     * The amount of columns that are compared
+     */
+    private static final int COLUMNS = 3000;
+    /**
+     * The longest time to wait for the generator (in nanoseconds)
+     */
+    private static final long TIMEOUT = 10_000_000_000L;
+
+    /**
+     * The streamed columns don't depend on how fast the player moves (and thus on the size of the requested chunks)
+     */
+    @Test
+    void sameColumnsAtDifferentPaces() throws InterruptedException {
+        for (long seed = 0; seed < 4; seed++) {
+            int[][] slow = stream(seed, 1);
+            int[][] fast = stream(seed, (MapGenerator.AHEAD + MapGenerator.BEHIND) / 2 * Map.SIZE);
+            for (int n = 1; n < COLUMNS; n++) assertArrayEquals(slow[n], fast[n], "seed " + seed + ", column " + n);
+        }
+    }
+
+    /**
+     * Follow a player that moves at a constant pace and copy every column as soon as it's published
+     *
+     * @param seed of the map
+     * @param pace the distance the player moves per step (in world units)
+     * @return the block ids of the columns (column 0 is empty)
+     */
+    private static int[][] stream(long seed, int pace) throws InterruptedException {
+        EndlessMap map = MapGenerator.createEndlessMap(seed);
+        int[][] columns = new int[COLUMNS][];
+        try {
+            double x = map.x;
+            int next = map.getFirstColumn();
+            while (next < COLUMNS) {
+                // Copy the published columns before the player leaves them behind
+                assertTrue(next >= map.getFirstColumn(), "column " + next + " was discarded");
+                for (; next < Math.min(map.getLastColumn(), COLUMNS); next++) {
+                    columns[next] = new int[map.height];
+                    for (int m = 0; m < map.height; m++) columns[next][m] = map.getId(m, next);
+                }
+
+                // Move on and wait until the columns ahead are generated
+                x += pace;
+                map.follow(x);
+                long deadline = System.nanoTime() + TIMEOUT;
+                while (map.getLastColumn() < Map.toTile(x) + 1 + MapGenerator.AHEAD) {
+                    if (System.nanoTime() > deadline) fail("the generator didn't catch up with column " + next);
+                    Thread.sleep(1);
+                }
+            }
+        } finally {
+            map.close();
+        }
+        return columns;
+    }
+}
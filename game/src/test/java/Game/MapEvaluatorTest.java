@@ -0,0 +1,130 @@
+package Game;
+
+import Game.Models.Blocks;
+import Game.Models.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MapEvaluatorTest {
+
+    /**
+     * The height of the fixtures and the row of their platforms
+     */
+    private static final int HEIGHT = 20, FLOOR = 15;
+    /**
+     * The widest gap a jump clears on the same row (in columns)
+     */
+    private static final int MAX_GAP = (int) (Player.MAX_VELOCITY * 2 * Player.JUMP_VELOCITY / Player.GRAVITY / Map.SIZE);
+
+    /**
+     * A path over two gaps onto single columns needs two jumps, the first one from the edge of the start platform
+     * (the closest of the surfaces it can be jumped from)
+     */
+    @Test
+    void solvablePathCountsJumps() {
+        Map map = createMap(30);
+        platform(map, FLOOR, 1, 5);
+        platform(map, FLOOR, 16, 16);
+        platform(map, FLOOR, 24, 24);
+        map.finish = Map.toX(24) - 1;
+
+        MapEvaluator.Result result = new MapEvaluator(map).evaluate();
+        assertTrue(result.solvable);
+        assertEquals(2, result.jumps);
+        assertEquals(10.0 / MAX_GAP, result.hardest, 1e-9);
+        assertEquals((10.0 + 7.0) / 2 / MAX_GAP, result.difficulty, 1e-9);
+    }
+
+    /**
+     * The widest gap a jump clears is solvable, a gap one column wider isn't
+     */
+    @Test
+    void gapBeyondJumpReachIsUnsolvable() {
+        for (int gap = MAX_GAP; gap <= MAX_GAP + 1; gap++) {
+            Map map = createMap(gap + 20);
+            platform(map, FLOOR, 1, 5);
+            platform(map, FLOOR, 6 + gap, gap + 18);
+            map.finish = Map.toX(gap + 10);
+
+            MapEvaluator.Result result = new MapEvaluator(map).evaluate();
+            assertEquals(gap == MAX_GAP, result.solvable, "gap " + gap);
+            if (result.solvable) assertEquals(1, result.jumps);
+        }
+    }
+
+    /**
+     * A ledge too high for a jump is reached through a bounce block (without counting a jump), not without it
+     */
+    @Test
+    void ledgeReachedThroughBounce() {
+        for (Blocks launcher : new Blocks[]{Blocks.BOUNCE, Blocks.NORMAL}) {
+            Map map = createMap(20);
+            platform(map, FLOOR, 1, 5);
+            map.set(FLOOR, 6, launcher);
+            platform(map, FLOOR - 10, 8, 18);
+            map.finish = Map.toX(12);
+
+            MapEvaluator.Result result = new MapEvaluator(map).evaluate();
+            assertEquals(launcher == Blocks.BOUNCE, result.solvable, launcher.name());
+            if (result.solvable) assertEquals(0, result.jumps);
+        }
+    }
+
+    /**
+     * Merging summaries keeps the lowest unsolvable seed (negative seeds included) and knows when there is none
+     */
+    @Test
+    void mergeKeepsLowestUnsolvableSeed() {
+        MapEvaluator.Summary first = new MapEvaluator.Summary(), second = new MapEvaluator.Summary();
+        first.add(new MapEvaluator.Result(5, false, 0, 0, 0));
+        first.add(new MapEvaluator.Result(-20, true, 3, 0.5, 0.4));
+        second.add(new MapEvaluator.Result(2, false, 0, 0, 0));
+        second.add(new MapEvaluator.Result(-7, false, 0, 0, 0));
+
+        MapEvaluator.Summary empty = new MapEvaluator.Summary();
+        first.merge(empty);
+        assertTrue(first.unsolvable);
+        assertEquals(5, first.unsolvableSeed);
+
+        first.merge(second);
+        assertEquals(4, first.maps);
+        assertEquals(1, first.solvable);
+        assertTrue(first.unsolvable);
+        assertEquals(-7, first.unsolvableSeed);
+
+        empty.merge(first);
+        assertEquals(-7, empty.unsolvableSeed);
+        MapEvaluator.Summary solvable = new MapEvaluator.Summary();
+        solvable.add(new MapEvaluator.Result(1, true, 1, 0.1, 0.1));
+        solvable.merge(new MapEvaluator.Summary());
+        assertFalse(solvable.unsolvable);
+    }
+
+    /**
+     * Create an empty map with the player spawning above the first column
+     *
+     * @param width of the map
+     * @return the map
+     */
+    private static Map createMap(int width) {
+        Map map = new Map(width, HEIGHT);
+        map.x = Map.toX(2) + Map.SIZE / 2;
+        map.y = Map.toY(FLOOR - 1);
+        return map;
+    }
+
+    /**
+     * Fill a row of columns with normal blocks
+     *
+     * @param map  to be filled
+     * @param m    the row
+     * @param from the first column (inclusive)
+     * @param to   the last column (inclusive)
+     */
+    private static void platform(Map map, int m, int from, int to) {
+        for (int n = from; n <= to; n++) map.set(m, n, Blocks.NORMAL);
+    }
+}
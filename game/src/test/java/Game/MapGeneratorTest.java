@@ -0,0 +1,46 @@
+package Game;
+
+import Game.Models.Map;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class MapGeneratorTest {
+
+    /**
+     * The amount of seeds that are generated
+     */
+    private static final int SEEDS = 500;
+
+    /**
+     * The same seed always yields the same map
+     */
+    @Test
+    void sameSeedSameMap() {
+        for (long seed = -SEEDS / 2; seed < SEEDS / 2; seed++) {
+            Map first = MapGenerator.createMap(seed), second = MapGenerator.createMap(seed);
+            assertEquals(first, second, "seed " + seed);
+            assertEquals(seed, second.seed);
+            assertEquals(MapGenerator.createMap(seed, 2000), MapGenerator.createMap(seed, 2000), "seed " + seed);
+        }
+        assertNotEquals(MapGenerator.createMap(1), MapGenerator.createMap(2));
+    }
+
+    /**
+     * Maps generated in parallel are the same as the ones generated one after another
+     */
+    @Test
+    void parallelMatchesSequential() {
+        long[] seeds = LongStream.range(0, SEEDS).map(i -> i * 0x9E3779B97F4A7C15L).toArray();
+        Map[] maps = MapGenerator.createMaps(seeds);
+        assertEquals(seeds.length, maps.length);
+        for (int i = 0; i < seeds.length; i++) {
+            Map expected = MapGenerator.createMap(seeds[i]);
+            assertEquals(expected, maps[i], "seed " + seeds[i]);
+            assertEquals(seeds[i], maps[i].seed);
+        }
+    }
+}
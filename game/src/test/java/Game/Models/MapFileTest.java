@@ -0,0 +1,127 @@
+package Game.Models;
+
+import Game.MapGenerator;
+import Game.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MapFileTest {
+
+    /**
+     * The amount of generated maps that are written and loaded again
+     */
+    private static final int MAPS = 200;
+
+    /**
+     * Written maps load unchanged and play the same way
+     *
+     * @param directory for the map files
+     */
+    @Test
+    void roundTrip(@TempDir Path directory) throws IOException {
+        for (long seed = 0; seed < MAPS; seed++) {
+            Map map = MapGenerator.createMap(seed);
+            Path path = directory.resolve(seed + ".map");
+            MapFile.write(map, path);
+            Map loaded = MapFile.load(path);
+            assertEquals(map, loaded, "seed " + seed);
+            assertEquals(map.seed, loaded.seed);
+            assertSamePlay(map, loaded);
+
+            // Compare the surface indexes
+            for (int n = 0; n < map.width; n++) {
+                assertEquals(map.getTop(n), loaded.getTop(n), "top of column " + n);
+                assertEquals(map.getBottom(n), loaded.getBottom(n), "bottom of column " + n);
+            }
+
+            // Compare the stored solid masks
+            for (int n = 0; n < map.width; n++) {
+                for (int word = 0; word < MapFile.maskWords(map.height); word++) {
+                    assertEquals(map.getSolidMask(n, word), loaded.getSolidMask(n, word), "mask of column " + n);
+                }
+            }
+        }
+    }
+
+    /**
+     * A map that is larger than the write buffer is streamed into the file unchanged
+     *
+     * @param directory for the map file
+     */
+    @Test
+    void roundTripLargeMap(@TempDir Path directory) throws IOException {
+        Map map = MapGenerator.createMap(1, 50_000);
+        Path path = directory.resolve("large.map");
+        MapFile.write(map, path);
+        assertEquals(MapFile.fileSize(map.width, map.height), Files.size(path));
+        assertEquals(map, MapFile.load(path));
+    }
+
+    /**
+     * Changing a loaded map copies it into memory and leaves the file unchanged
+     *
+     * @param directory for the map file
+     */
+    @Test
+    void copyOnWrite(@TempDir Path directory) throws IOException {
+        Map map = MapGenerator.createMap(3);
+        Path path = directory.resolve("3.map");
+        MapFile.write(map, path);
+        Map loaded = MapFile.load(path);
+
+        // Apply the same change to the generated and the loaded map
+        int n = map.width / 2, m = map.getTop(n);
+        map.set(m, n, Blocks.AIR);
+        map.set(1, n + 1, Blocks.NORMAL);
+        loaded.set(m, n, Blocks.AIR);
+        loaded.set(1, n + 1, Blocks.NORMAL);
+        assertEquals(map, loaded);
+        assertEquals(map.getTop(n), loaded.getTop(n));
+        assertEquals(map.getVariant(1, n + 1), loaded.getVariant(1, n + 1));
+        assertSamePlay(map, loaded);
+        assertEquals(MapGenerator.createMap(3), MapFile.load(path));
+    }
+
+    /**
+     * A file beyond the size of one mapped buffer is rejected with a clear error
+     *
+     * @param directory for the map file
+     */
+    @Test
+    void rejectsOversizedFile(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("large.map");
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(MapFile.MAX_SIZE + 1);
+        }
+        IOException e = assertThrows(IOException.class, () -> MapFile.load(path));
+        assertTrue(e.getMessage().contains("too large"), e.getMessage());
+    }
+
+    /**
+     * Check that a player moves the same way on both maps
+     */
+    private static void assertSamePlay(Map a, Map b) {
+        Player first = new Player(a), second = new Player(b);
+        first.accelerate(Player.ACCELERATION);
+        second.accelerate(Player.ACCELERATION);
+        for (int tick = 0; tick < 600; tick++) {
+            if (tick % 40 == 0) {
+                first.jump();
+                second.jump();
+            }
+            first.move(1.0 / 120);
+            second.move(1.0 / 120);
+            assertEquals(first.x, second.x, "tick " + tick);
+            assertEquals(first.y, second.y, "tick " + tick);
+        }
+    }
+}
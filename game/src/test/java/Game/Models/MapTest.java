@@ -0,0 +1,84 @@
+package Game.Models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MapTest {
+
+    /**
+     * The radius of a player
+     */
+    private static final double RADIUS = Map.SIZE / 2.0;
+
+    /**
+     * The query of the solid tiles in a rectangle finds the same tiles as checking every tile, also when the border
+     * rows are cleared and the rectangle reaches beyond the map
+     */
+    @Test
+    void findSolidTilesMatchesBruteForce() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 200; round++) {
+            Map map = new Map(12, 4 + random.nextInt(140));
+            for (int n = 0; n < map.width; n++) {
+                for (int m = 0; m < map.height; m++) {
+                    if (random.nextInt(6) == 0) map.set(m, n, Blocks.get(1 + random.nextInt(Blocks.COUNT - 1)));
+                }
+            }
+
+            // Query random rectangles that may leave the map on any side
+            for (int query = 0; query < 100; query++) {
+                double left = (random.nextDouble() * 1.4 - 0.2) * map.width * Map.SIZE;
+                double top = (random.nextDouble() * 1.4 - 0.2 - (double) Map.HEIGHT_OFFSET / map.height) * map.height * Map.SIZE;
+                double right = left + random.nextDouble() * 4 * Map.SIZE, bottom = top + random.nextDouble() * 4 * Map.SIZE;
+                int[] expected = new int[256], actual = new int[256];
+                int count = 0;
+                for (int n = Map.toTile(left) + 1; n <= Map.toTile(right) + 1; n++) {
+                    for (int m = Map.toTile(top) + Map.HEIGHT_OFFSET; m <= Map.toTile(bottom) + Map.HEIGHT_OFFSET; m++) {
+                        if (!map.isSolid(m, n)) continue;
+                        expected[2 * count] = m;
+                        expected[2 * count + 1] = n;
+                        count++;
+                    }
+                }
+                assertEquals(count, map.findSolidTiles(left, top, right, bottom, actual));
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    /**
+     * A circle that falls past the edge of a ledge rests on its corner until its center is a radius past the edge
+     */
+    @Test
+    void sweepCircleTouchesCorners() {
+        Map map = new Map(10, 20);
+        int m = 15, n = 4;
+        map.set(m, n, Blocks.NORMAL);
+        double edge = Map.toX(n) + Map.SIZE, surface = Map.toY(m);
+        int[] hit = new int[2];
+
+        // A center 11 units past the edge touches the corner
+        double x = edge + 11, y = surface - 100;
+        double moved = map.sweepCircle(x, y, RADIUS, 200, true, hit);
+        assertEquals(Math.hypot(x - edge, y + moved - surface), RADIUS, 1e-9);
+        assertArrayEquals(new int[]{m, n}, hit);
+
+        // A center more than a radius past the edge passes the corner
+        assertTrue(Double.isNaN(map.sweepCircle(edge + RADIUS + 0.01, y, RADIUS, 200, true, hit)));
+
+        // A circle directly above the tile lands on its side
+        assertEquals(surface - RADIUS - y, map.sweepCircle(edge - 5, y, RADIUS, 200, true, hit), 1e-9);
+
+        // A circle beside the corner hits it when moving sideways
+        x = edge + 100;
+        y = surface - 10;
+        moved = map.sweepCircle(x, y, RADIUS, -200, false, hit);
+        assertEquals(Math.hypot(x + moved - edge, y - surface), RADIUS, 1e-9);
+        assertArrayEquals(new int[]{m, n}, hit);
+    }
+}
@@ -0,0 +1,111 @@
+package Game.Render;
+
+import Game.MapGenerator;
+import Game.Models.Map;
+import Game.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AllocationTest {
+
+    /**
+     * The amount of frames to warm up and to measure
+     */
+    private static final int WARMUP = 20_000, FRAMES = 10_000;
+    /**
+     * The most rounds of frames that are measured (a round may still catch the compiler replacing code)
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * Drawing the map with flat colors doesn't allocate in a steady-state frame
+     */
+    @Test
+    void drawMap() {
+        assertEquals(0, measureDrawMap(new NullRenderer(1000, 600)));
+    }
+
+    /**
+     * Drawing the map from the atlas doesn't allocate in a steady-state frame
+     */
+    @Test
+    void drawMapTextured() {
+        NullRenderer renderer = new NullRenderer(1000, 600);
+        renderer.textured = true;
+        assertEquals(0, measureDrawMap(renderer));
+    }
+
+    /**
+     * The overview of the map doesn't allocate and costs the same on a narrow and on a wide map
+     */
+    @Test
+    void minimap() {
+        long[] draws = new long[2];
+        int[] widths = {400, 100_000};
+        for (int i = 0; i < widths.length; i++) {
+            Minimap minimap = new Minimap(MapGenerator.createMap(42, widths[i]));
+            NullRenderer renderer = new NullRenderer(1000, 600);
+            minimap.layout(renderer.getWidth() - 2 * Minimap.MARGIN);
+            IntConsumer drawFrame = frame -> minimap.draw(renderer, 0, frame, 0);
+            for (int frame = 0; frame < WARMUP; frame++) drawFrame.accept(frame);
+            draws[i] = renderer.draws;
+            assertEquals(0, measure(drawFrame), "width " + widths[i]);
+        }
+        assertEquals(draws[0], draws[1]);
+    }
+
+    /**
+     * Draw frames with the player scrolling over the map
+     *
+     * @param renderer to draw with
+     * @return the bytes allocated by the measured frames
+     */
+    private static long measureDrawMap(NullRenderer renderer) {
+        Map map = MapGenerator.createMap(42);
+        Player player = new Player(map);
+        RunBatcher runs = new RunBatcher();
+
+        // Warm up so that the measured frames run compiled code
+        IntConsumer drawFrame = frame -> drawFrame(map, player, renderer, runs, frame);
+        for (int frame = 0; frame < WARMUP; frame++) drawFrame.accept(frame);
+        return measure(drawFrame);
+    }
+
+    /**
+     * Measure the allocated bytes of the current thread while drawing frames (minus the cost of measuring)
+     *
+     * @param drawFrame draws the frame with the given number
+     * @return the fewest bytes allocated by a round of frames
+     */
+    private static long measure(IntConsumer drawFrame) {
+        long fewest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS && fewest > 0; round++) {
+            allocatedBytes();
+            long before = allocatedBytes(), overhead = allocatedBytes() - before;
+            before = allocatedBytes();
+            for (int frame = 0; frame < FRAMES; frame++) drawFrame.accept(frame);
+            fewest = Math.min(fewest, allocatedBytes() - before - overhead);
+        }
+        return fewest;
+    }
+
+    /**
+     * Draw a frame with the player scrolling over the map
+     */
+    private static void drawFrame(Map map, Player player, NullRenderer renderer, RunBatcher runs, int frame) {
+        player.x = map.x + frame % (map.finish - map.x);
+        map.drawMap(renderer, runs, player);
+    }
+
+    /**
+     * @return the bytes allocated by the current thread so far
+     */
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
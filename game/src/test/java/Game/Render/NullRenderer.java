@@ -0,0 +1,79 @@
+package Game.Render;
+
+public class NullRenderer implements Renderer {
+
+    /**
+     * The size of the viewport
+     */
+    private final double width, height;
+    /**
+     * The amount of draw calls and fill changes
+     */
+    public long draws, fills;
+    /**
+     * True if the blocks are drawn from the atlas
+     */
+    public boolean textured;
+
+    /**
+     * Constructor (a renderer that draws nothing and only counts the calls, for headless measurements)
+     */
+    public NullRenderer(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public double getWidth() {
+        return width;
+    }
+
+    @Override
+    public double getHeight() {
+        return height;
+    }
+
+    @Override
+    public void setFill(Palette color) {
+        fills++;
+    }
+
+    @Override
+    public void fillRect(double x, double y, double width, double height) {
+        draws++;
+    }
+
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+        draws++;
+    }
+
+    @Override
+    public boolean isTextured() {
+        return textured;
+    }
+
+    @Override
+    public void drawSprite(int sprite, double x, double y, double width) {
+        draws++;
+    }
+
+    @Override
+    public void setFont(double size) {
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+        draws++;
+    }
+
+    @Override
+    public void drawScreen(Screen screen, double x) {
+        draws++;
+    }
+
+    @Override
+    public void drawMinimap(Minimap minimap, int level, double x, double y, double scale) {
+        draws++;
+    }
+}
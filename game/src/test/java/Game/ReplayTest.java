@@ -0,0 +1,87 @@
+package Game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayTest {
+
+    /**
+     * The seed of the recorded map and the tick rate
+     */
+    private static final int SEED = 7, TICK_RATE = 120;
+    /**
+     * The offset of the first input's id in a saved recording (behind the header and the input's tick)
+     */
+    private static final int FIRST_INPUT = 4 + 4 + 8 + 4 + 8 + 4 + 8;
+
+    /**
+     * A saved recording replays to the recorded state
+     *
+     * @param directory for the recording
+     */
+    @Test
+    void roundTrip(@TempDir Path directory) throws IOException {
+        InputRecorder recording = new InputRecorder(SEED, TICK_RATE);
+        Simulation recorded = record(recording);
+        Path path = directory.resolve("recording.bin");
+        recording.save(path);
+
+        InputRecorder loaded = InputRecorder.load(path);
+        assertEquals(recording.length, loaded.length);
+        assertEquals(recording.size(), loaded.size());
+        assertTrue(loaded.checkpoints() > 0);
+        Simulation replayed = Replay.run(loaded);
+        assertEquals(recorded.ticks, replayed.ticks);
+        assertEquals(recorded.player.hashState(), replayed.player.hashState());
+        assertEquals(recorded.player.x, replayed.player.x);
+        assertEquals(recorded.player.y, replayed.player.y);
+    }
+
+    /**
+     * A replay that doesn't reproduce the recorded states fails
+     *
+     * @param directory for the recording
+     */
+    @Test
+    void divergingReplayFails(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("recording.bin");
+        InputRecorder recording = new InputRecorder(SEED, TICK_RATE);
+        record(recording);
+        recording.save(path);
+
+        // Turn the first input around, as a change of the simulation would
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[FIRST_INPUT] = (byte) (bytes[FIRST_INPUT] == Input.RIGHT.ordinal() ? Input.LEFT : Input.RIGHT).ordinal();
+        Files.write(path, bytes);
+        InputRecorder tampered = InputRecorder.load(path);
+        assertThrows(IllegalStateException.class, () -> Replay.run(tampered));
+    }
+
+    /**
+     * Record a simulation with random inputs (mostly to the right with jumps)
+     *
+     * @param recorder of the inputs
+     * @return the simulation after the recording
+     */
+    private static Simulation record(InputRecorder recorder) {
+        Simulation simulation = new Simulation(MapGenerator.createMap(SEED), TICK_RATE, 1);
+        simulation.record(recorder);
+        SplittableRandom random = new SplittableRandom(SEED);
+        simulation.input(Input.RIGHT);
+        for (int tick = 0; tick < 20 * TICK_RATE; tick++) {
+            if (random.nextInt(60) == 0) simulation.input(random.nextInt(4) == 0 ? Input.LEFT : Input.RIGHT);
+            if (random.nextInt(20) == 0) simulation.input(Input.JUMP);
+            simulation.tick();
+        }
+        return simulation;
+    }
+}
@@ -0,0 +1,45 @@
+package Game.Server;
+
+import Game.MapGenerator;
+import Game.Models.Map;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionServerTest {
+
+    /**
+     * A session that fails is closed while the other sessions of its loop keep ticking
+     */
+    @Test
+    void failingSessionIsClosed() throws InterruptedException {
+        LoopbackTransport transport = new LoopbackTransport() {
+            @Override
+            public void send(int session, ByteBuffer snapshot) {
+                if (session == 0) throw new IllegalStateException("Broken client");
+                super.send(session, snapshot);
+            }
+        };
+        SessionServer server = new SessionServer(transport, 1, 120);
+        Map map = MapGenerator.createMap(42, 100);
+        int failing = server.open(map), healthy = server.open(map);
+        server.start();
+        try {
+            // Wait until the healthy session ticked for a while after the failing one was closed
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (server.getLoopTicks() < 60 && System.nanoTime() < deadline) Thread.sleep(10);
+            assertTrue(server.getLoopTicks() >= 60);
+            long tick = transport.getSnapshot(healthy).tick;
+            Thread.sleep(100);
+            assertTrue(transport.getSnapshot(healthy).tick > tick);
+            assertNull(transport.getSnapshot(failing));
+            assertNotNull(transport.getSnapshot(healthy));
+        } finally {
+            server.shutdown();
+        }
+    }
+}
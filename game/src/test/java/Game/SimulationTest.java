@@ -0,0 +1,85 @@
+package Game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimulationTest {
+
+    /**
+     * The tick rate (a power of two, so that the tested times are exact) and the maximum amount of ticks per advance
+     */
+    private static final int TICK_RATE = 64, MAX_TICKS = 5;
+    /**
+     * The length of a tick (in seconds)
+     */
+    private static final double STEP = 1.0 / TICK_RATE;
+
+    /**
+     * @return a new simulation of a generated map
+     */
+    private static Simulation createSimulation() {
+        return new Simulation(MapGenerator.createMap(1), TICK_RATE, MAX_TICKS);
+    }
+
+    /**
+     * The passed time is simulated in fixed ticks and the remainder is carried over to the next advance
+     */
+    @Test
+    void accumulatesFixedTicks() {
+        Simulation simulation = createSimulation();
+        assertEquals(0, simulation.advance(0.5 * STEP));
+        assertEquals(0.5, simulation.getAlpha());
+        assertEquals(1, simulation.advance(0.75 * STEP));
+        assertEquals(0.25, simulation.getAlpha());
+        assertEquals(3, simulation.advance(2.75 * STEP));
+        assertEquals(0, simulation.getAlpha());
+        assertEquals(4, simulation.ticks);
+    }
+
+    /**
+     * A long frame is caught up with at most the maximum amount of ticks and the rest of the backlog is dropped
+     */
+    @Test
+    void dropsBacklogBeyondMaxTicks() {
+        Simulation simulation = createSimulation();
+        assertEquals(MAX_TICKS, simulation.advance((MAX_TICKS + 10.5) * STEP));
+        assertEquals(1, simulation.getAlpha());
+
+        // Only the single kept tick is simulated on the next frame
+        assertEquals(1, simulation.advance(0));
+        assertEquals(0, simulation.getAlpha());
+        assertEquals(MAX_TICKS + 1, simulation.ticks);
+    }
+
+    /**
+     * A frame that needs exactly the maximum amount of ticks keeps its remainder
+     */
+    @Test
+    void keepsRemainderAtMaxTicks() {
+        Simulation simulation = createSimulation();
+        assertEquals(MAX_TICKS, simulation.advance((MAX_TICKS + 0.5) * STEP));
+        assertEquals(0.5, simulation.getAlpha());
+    }
+
+    /**
+     * Every queued input is applied on the next tick, even if more arrive than the queue holds at first
+     */
+    @Test
+    void appliesAllQueuedInputs() {
+        Simulation simulation = createSimulation();
+        InputRecorder recorder = new InputRecorder(1, TICK_RATE);
+        simulation.record(recorder);
+        for (int i = 0; i < 100; i++) simulation.input(i % 2 == 0 ? Input.RIGHT : Input.STOP);
+        simulation.tick();
+        assertEquals(100, recorder.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, recorder.getTick(i));
+            assertEquals(i % 2 == 0 ? Input.RIGHT : Input.STOP, recorder.getInput(i));
+        }
+
+        // The queue is empty afterwards
+        simulation.tick();
+        assertEquals(100, recorder.size());
+    }
+}
@@ -0,0 +1,129 @@
+package Benchmark;
+
+import Game.Agents;
+import Game.MapGenerator;
+import Game.Models.Map;
+import Game.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AgentsBenchmark {
+
+    /**
+     * The amount of players and agents that are moved per tick
+     */
+    private static final int AGENTS = 10_000;
+    /**
+     * The ticks between two jumps of a player
+     */
+    private static final int JUMP_INTERVAL = 30;
+    /**
+     * The length of a tick (in seconds)
+     */
+    private static final double STEP = 1.0 / 120;
+    /**
+     * The map the players and agents are on
+     */
+    private Map map;
+    /**
+     * The players with an object each
+     */
+    private Player[] players;
+    /**
+     * The agents in one store
+     */
+    private Agents agents;
+    /**
+     * The current tick
+     */
+    private int tick;
+
+    /**
+     * Set up the map
+     */
+    @Setup
+    public void setupMap() {
+        map = MapGenerator.createMap(42, 500);
+    }
+
+    /**
+     * Spawn the players and agents again for every iteration (so that every iteration runs the same part of the map)
+     */
+    @Setup(Level.Iteration)
+    public void spawn() {
+        tick = 0;
+        players = new Player[AGENTS];
+        agents = new Agents(map, AGENTS);
+        for (int i = 0; i < AGENTS; i++) {
+            players[i] = new Player(map);
+            players[i].accelerate(Player.ACCELERATION);
+            agents.accelerate(i, Player.ACCELERATION);
+        }
+    }
+
+    /**
+     * Move the players with Player.move (the time is per player)
+     */
+    @Benchmark
+    @OperationsPerInvocation(AGENTS)
+    public void playerMove(Blackhole blackhole) {
+        int phase = tick++ % JUMP_INTERVAL;
+        for (int i = phase; i < AGENTS; i += JUMP_INTERVAL) players[i].jump();
+        for (Player player : players) player.move(STEP);
+        blackhole.consume(players[0].x);
+    }
+
+    /**
+     * Move the agents in the current thread (the time is per agent)
+     */
+    @Benchmark
+    @OperationsPerInvocation(AGENTS)
+    public void agentsStep(Blackhole blackhole) {
+        int phase = tick++ % JUMP_INTERVAL;
+        for (int i = phase; i < AGENTS; i += JUMP_INTERVAL) agents.jump(i);
+        agents.step(STEP);
+        blackhole.consume(agents.x[0]);
+    }
+
+    /**
+     * Integrate the speeds of the agents without resolving collisions (the vectorized second pass of a step, the time
+     * is per agent)
+     */
+    @Benchmark
+    @OperationsPerInvocation(AGENTS)
+    public void agentsIntegrate(Blackhole blackhole) {
+        agents.integrate(0, AGENTS, STEP);
+        blackhole.consume(agents.x[0]);
+    }
+
+    /**
+     * Move the agents in batches on the common fork-join pool (the time is per agent)
+     */
+    @Benchmark
+    @OperationsPerInvocation(AGENTS)
+    public void agentsStepParallel(Blackhole blackhole) {
+        int phase = tick++ % JUMP_INTERVAL;
+        for (int i = phase; i < AGENTS; i += JUMP_INTERVAL) agents.jump(i);
+        agents.stepParallel(STEP);
+        blackhole.consume(agents.x[0]);
+    }
+}
@@ -0,0 +1,178 @@
+package Benchmark;
+
+import Game.MapGenerator;
+import Game.Models.Map;
+import Game.Player;
+import Game.Render.NullRenderer;
+import Game.Render.RunBatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EngineBenchmark {
+
+    /**
+     * The length of the input trace (in ticks) and the length of a tick (in seconds)
+     */
+    private static final int TRACE_LENGTH = 120 * 60;
+    private static final double STEP = 1.0 / 120;
+    /**
+     * The inputs of the trace
+     */
+    private static final int RIGHT = 1, LEFT = 2, JUMP = 4;
+
+    /**
+     * The width and the seed of the next generated map
+     */
+    @State(Scope.Thread)
+    public static class Generation {
+        /**
+         * The width of the generated maps
+         */
+        @Param({"300", "500", "2000"})
+        public int width;
+        /**
+         * The seed of the next map
+         */
+        public long seed;
+    }
+
+    /**
+     * The seeds of a batch of maps
+     */
+    @State(Scope.Thread)
+    public static class Seeds {
+        /**
+         * The seeds of the maps
+         */
+        public final long[] seeds = new long[1000];
+
+        /**
+         * Set up the seeds
+         */
+        @Setup
+        public void setup() {
+            for (int i = 0; i < seeds.length; i++) seeds[i] = i;
+        }
+    }
+
+    /**
+     * A map with a player and a recorded input trace
+     */
+    @State(Scope.Thread)
+    public static class Level {
+        /**
+         * The map the player is on
+         */
+        public Map map;
+        /**
+         * The inputs per tick
+         */
+        public int[] trace;
+        /**
+         * The player that scrolls over the map
+         */
+        public Player player;
+        /**
+         * The renderer that only counts the calls
+         */
+        public NullRenderer renderer;
+        /**
+         * The runs of blocks of the renderer
+         */
+        public final RunBatcher runs = new RunBatcher();
+        /**
+         * The current frame
+         */
+        public int frame;
+
+        /**
+         * Set up the map and record a random input trace that mostly runs to the right and jumps from time to time
+         */
+        @Setup
+        public void setup() {
+            map = MapGenerator.createMap(42, 500);
+            player = new Player(map);
+            renderer = new NullRenderer(1000, 600);
+            Random random = new Random(42);
+            trace = new int[TRACE_LENGTH];
+            int input = RIGHT;
+            for (int i = 0; i < TRACE_LENGTH; i++) {
+                if (random.nextInt(60) == 0) input = random.nextInt(5) == 0 ? LEFT : RIGHT;
+                trace[i] = input | (random.nextInt(20) == 0 ? JUMP : 0);
+            }
+        }
+    }
+
+    /**
+     * Generate a map
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Map generateMap(Generation generation) {
+        return MapGenerator.createMap(generation.seed++, generation.width);
+    }
+
+    /**
+     * Generate 1000 maps one after another
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void createMapsSequential(Seeds seeds, Blackhole blackhole) {
+        for (long seed : seeds.seeds) blackhole.consume(MapGenerator.createMap(seed));
+    }
+
+    /**
+     * Generate 1000 maps on the common fork-join pool
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map[] createMapsParallel(Seeds seeds) {
+        return MapGenerator.createMaps(seeds.seeds);
+    }
+
+    /**
+     * Replay the input trace on a new player (the time is per tick)
+     */
+    @Benchmark
+    @OperationsPerInvocation(TRACE_LENGTH)
+    public void playerMove(Level level, Blackhole blackhole) {
+        Player player = new Player(level.map);
+        for (int input : level.trace) {
+            player.accelerate((input & RIGHT) != 0 ? Player.ACCELERATION : (input & LEFT) != 0 ? -Player.ACCELERATION : 0);
+            if ((input & JUMP) != 0) player.jump();
+            player.move(STEP);
+        }
+        blackhole.consume(player.x);
+        blackhole.consume(player.y);
+    }
+
+    /**
+     * Draw a frame of the map with the player scrolling over it
+     */
+    @Benchmark
+    public long drawMap(Level level) {
+        Map map = level.map;
+        level.player.x = map.x + level.frame++ % (map.finish - map.x);
+        map.drawMap(level.renderer, level.runs, level.player);
+        return level.renderer.draws;
+    }
+}
@@ -0,0 +1,129 @@
+package Benchmark;
+
+import Game.MapGenerator;
+import Game.Models.Blocks;
+import Game.Models.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GetBlockBenchmark {
+
+    /**
+     * The amount of lookups per invocation
+     */
+    private static final int LOOKUPS = 1 << 16;
+    /**
+     * The map the blocks are looked up on
+     */
+    private Map map;
+    /**
+     * The map in the former int[][] layout
+     */
+    private int[][] legacy;
+    /**
+     * The probed positions
+     */
+    private double[] xs, ys;
+    /**
+     * The positions of the tiles found by the circle query
+     */
+    private final int[] tiles = new int[32];
+
+    /**
+     * Set up the map and probe the whole map including a margin outside of it
+     */
+    @Setup
+    public void setup() {
+        map = MapGenerator.createMap(42);
+        legacy = new int[map.height][map.width];
+        for (int m = 0; m < map.height; m++) {
+            for (int n = 0; n < map.width; n++) legacy[m][n] = map.getId(m, n);
+        }
+        Random random = new Random(42);
+        xs = new double[LOOKUPS];
+        ys = new double[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            xs[i] = (random.nextDouble() * 1.1 - 0.05) * map.width * Map.SIZE;
+            ys[i] = (random.nextDouble() * 1.1 - 0.05) * map.height * Map.SIZE - Map.HEIGHT_OFFSET * Map.SIZE;
+        }
+    }
+
+    /**
+     * The former lookup with try/catch for positions outside of the map and values() per call
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void getBlockLegacy(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) blackhole.consume(getLegacyBlock(legacy, xs[i], ys[i]).solid);
+    }
+
+    /**
+     * The lookup with a bounds check
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void getBlock(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) blackhole.consume(map.getBlock(xs[i], ys[i]).solid);
+    }
+
+    /**
+     * The solid check with the lookup table of the blocks
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void isSolid(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) blackhole.consume(map.isSolid(xs[i], ys[i]));
+    }
+
+    /**
+     * The four point probes of the former collision around a player
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void isSolidFourPoints(Blackhole blackhole) {
+        double r = Map.SIZE / 2.0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            double x = xs[i], y = ys[i];
+            blackhole.consume(map.isSolid(x - r, y) || map.isSolid(x + r, y) || map.isSolid(x, y - r) || map.isSolid(x, y + r));
+        }
+    }
+
+    /**
+     * The query of the solid tiles that overlap a player's circle
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void findSolidTilesCircle(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) blackhole.consume(map.findSolidTiles(xs[i], ys[i], Map.SIZE / 2.0, tiles));
+    }
+
+    /**
+     * The former implementation of Map.getBlock
+     */
+    private static Blocks getLegacyBlock(int[][] map, double x, double y) {
+        try {
+            return Blocks.values()[map[(int) (y / Map.SIZE) + Map.HEIGHT_OFFSET][(int) (x / Map.SIZE) + 1]];
+        } catch (Exception e) {
+            return Blocks.NORMAL;
+        }
+    }
+}
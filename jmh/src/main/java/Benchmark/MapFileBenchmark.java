@@ -0,0 +1,72 @@
+package Benchmark;
+
+import Game.MapGenerator;
+import Game.Models.Map;
+import Game.Models.MapFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class MapFileBenchmark {
+
+    /**
+     * The width of the large map
+     */
+    private static final int LARGE_WIDTH = 1_000_000;
+    /**
+     * The file of the large map
+     */
+    private Path path;
+
+    /**
+     * Write the large map
+     */
+    @Setup
+    public void setup() throws IOException {
+        path = Files.createTempFile("large", ".map");
+        MapFile.write(MapGenerator.createMap(42, LARGE_WIDTH), path);
+    }
+
+    /**
+     * Delete the large map
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(path);
+    }
+
+    /**
+     * Generate the large map
+     */
+    @Benchmark
+    public Map generate() {
+        return MapGenerator.createMap(42, LARGE_WIDTH);
+    }
+
+    /**
+     * Load the large map from its file
+     */
+    @Benchmark
+    public Map load() throws IOException {
+        return MapFile.load(path);
+    }
+}
@@ -0,0 +1,70 @@
+package Benchmark;
+
+import Game.Input;
+import Game.MapGenerator;
+import Game.Models.Map;
+import Game.Server.LoopbackTransport;
+import Game.Server.SessionServer;
+import Game.Server.Snapshot;
+
+public class ServerBenchmark {
+
+    /**
+     * The tick rate of the sessions (in ticks per second)
+     */
+    private static final int TICK_RATE = 120;
+    /**
+     * The time each amount of sessions runs (in milliseconds)
+     */
+    private static final int DURATION = 3000;
+    /**
+     * The share of the expected ticks a server has to reach to sustain its sessions
+     */
+    private static final double SUSTAINED = 0.95;
+    /**
+     * The amount of maps the sessions share
+     */
+    private static final int MAPS = 16;
+
+    /**
+     * Double the amount of sessions until the server can't keep up with the tick rate anymore
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        Map[] maps = new Map[MAPS];
+        for (int i = 0; i < MAPS; i++) maps[i] = MapGenerator.createMap(i);
+
+        int sustained = 0;
+        for (int count = 250; ; count *= 2) {
+            LoopbackTransport transport = new LoopbackTransport();
+            SessionServer server = new SessionServer(transport, threads, TICK_RATE);
+            int[] sessions = new int[count];
+            for (int i = 0; i < count; i++) {
+                sessions[i] = server.open(maps[i % MAPS]);
+                transport.input(sessions[i], Input.RIGHT);
+            }
+
+            // Let the clients jump about four times a second while the server runs
+            server.start();
+            long start = System.nanoTime(), end = start + DURATION * 1_000_000L;
+            for (int round = 0; System.nanoTime() < end; round++) {
+                for (int i = round % 30; i < count; i += 30) transport.input(sessions[i], Input.JUMP);
+                Thread.sleep(1000 / TICK_RATE);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long loopTicks = server.getLoopTicks(), busy = server.getBusyTime();
+            Snapshot snapshot = transport.getSnapshot(sessions[0]);
+            server.shutdown();
+
+            // Compare the ticks with the tick rate
+            double reached = loopTicks / (seconds * TICK_RATE * threads);
+            System.out.printf("%6d sessions: %5.1f %% of the ticks, loops busy %5.1f %%, %.0f snapshots/s (%.1f MB/s), "
+                            + "session 0 at tick %d%n", count, 100 * reached, 100 * busy / (seconds * 1e9 * threads),
+                    transport.snapshots.sum() / seconds, transport.bytes.sum() / seconds / 1e6, snapshot.tick);
+            if (reached < SUSTAINED) break;
+            sustained = count;
+        }
+        System.out.printf("Sustained %d sessions at %d ticks/s on %d core(s) (%d sessions per core)%n",
+                sustained, TICK_RATE, threads, sustained / threads);
+    }
+}